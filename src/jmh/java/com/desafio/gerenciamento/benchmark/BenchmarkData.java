@@ -0,0 +1,87 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+// * massa de dados determinística compartilhada pelos benchmarks
+final class BenchmarkData {
+
+    static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static List<Project> projects(int quantidade) {
+        List<Project> projetos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Project projeto = new Project("Projeto " + i, "Descrição do projeto " + i, BASE, BASE.plusMonths(6));
+            projeto.setId((long) i + 1);
+            projetos.add(projeto);
+        }
+        return projetos;
+    }
+
+    static List<Task> tasks(int quantidade, List<Project> projetos) {
+        List<Task> tasks = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            tasks.add(new Task((long) i + 1, "Task " + i, "Descrição da task " + i,
+                    Status.values()[i % 3], Priority.values()[i % 3], BASE.plusDays(i % 365),
+                    projetos.get(i % projetos.size())));
+        }
+        return tasks;
+    }
+
+    static List<TaskResponseDTO> taskResponses(int quantidade) {
+        List<TaskResponseDTO> dtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            dtos.add(new TaskResponseDTO((long) i + 1, "Task " + i, "Descrição da task " + i,
+                    Status.values()[i % 3], Priority.values()[i % 3], BASE.plusDays(i % 365), (long) i % 50 + 1));
+        }
+        return dtos;
+    }
+
+    static List<ProjectResponseDTO> projectResponses(int quantidade) {
+        List<ProjectResponseDTO> dtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            dtos.add(new ProjectResponseDTO((long) i + 1, "Projeto " + i, "Descrição do projeto " + i,
+                    BASE.plusDays(i % 365), i % 2 == 0 ? null : BASE.plusMonths(6)));
+        }
+        return dtos;
+    }
+
+    static TaskRequestDTO taskRequest(String title, Long idProject, int i) {
+        TaskRequestDTO dto = new TaskRequestDTO();
+        dto.setTitle(title);
+        dto.setDescription("Descrição da task " + i);
+        dto.setStatus(Status.values()[i % 3]);
+        dto.setPriority(Priority.values()[i % 3]);
+        dto.setDueDate(BASE.plusDays(i % 365));
+        dto.setIdProject(idProject);
+        return dto;
+    }
+
+    // * apaga o arquivo (e o WAL) de uma rodada anterior; as migrações recriam o schema na subida
+    static String bancoNovo(String arquivo) {
+        try {
+            for (String sufixo : new String[] { "", "-wal", "-shm" }) {
+                Files.deleteIfExists(Path.of(arquivo + sufixo));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "jdbc:sqlite:" + arquivo;
+    }
+}
@@ -0,0 +1,100 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.desafio.gerenciamento.GerenciamentoApplication;
+import com.desafio.gerenciamento.request.ProjectRequestDTO;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.service.ProjectService;
+import com.desafio.gerenciamento.service.TaskBatchService;
+import com.desafio.gerenciamento.service.TaskService;
+
+// * carga concorrente (8 threads) com a configuração padrão do SQLite x perfil "prod";
+// * o modo SampleTime registra a distribuição, então o resultado traz p50 e p99 de cada operação
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class DataSourceProfileBenchmark {
+
+    private static final int SEMENTE = 10_000;
+    private static final int LOTE = 5_000;
+
+    @Param({ "default", "prod" })
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long idProjeto;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(GerenciamentoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("default".equals(profile) ? new String[0] : new String[] { profile })
+                .properties(
+                        "spring.datasource.url=" + BenchmarkData.bancoNovo("target/benchmark-" + profile + ".db"),
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        ProjectService projectService = context.getBean(ProjectService.class);
+        ProjectRequestDTO projeto = new ProjectRequestDTO();
+        projeto.setName("Projeto carga");
+        projeto.setStartDate(BenchmarkData.BASE);
+        projectService.criarProjeto(projeto);
+        idProjeto = projectService.listarProjetos().get(0).getId();
+
+        TaskBatchService taskBatchService = context.getBean(TaskBatchService.class);
+        List<TaskRequestDTO> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < SEMENTE; i++) {
+            lote.add(BenchmarkData.taskRequest("Seed " + i, idProjeto, i));
+            if (lote.size() == LOTE) {
+                taskBatchService.criarTasks(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> listarTasks() {
+        return taskService.listarTasks();
+    }
+
+    @Benchmark
+    public TaskResponseDTO criarTask() {
+        long i = sequencia.incrementAndGet();
+        return taskService.criarTask(BenchmarkData.taskRequest("Carga " + i, idProjeto, (int) i));
+    }
+}
@@ -0,0 +1,104 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.desafio.gerenciamento.handler.ResourceNotFoundException;
+import com.desafio.gerenciamento.handler.RestExceptionHandler;
+import com.desafio.gerenciamento.handler.TaskExists;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// * caminho de erro (404/409) x resposta de sucesso, lançando a exceção a uma profundidade de pilha parecida
+// * com a de uma requisição real (servlet, filtros, proxies do Spring); "stackTrace" reproduz o custo anterior
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({ "120" })
+    private int depth;
+
+    private final RestExceptionHandler handler = new RestExceptionHandler();
+    private ObjectMapper mapper;
+    private ServletWebRequest request;
+    private TaskResponseDTO task;
+
+    @Setup
+    public void setup() {
+        // * como o ObjectMapper do Spring Boot: datas (e o timestamp do erro) como texto ISO
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/tasks/42"));
+        task = BenchmarkData.taskResponses(1).get(0);
+    }
+
+    @Benchmark
+    public byte[] success() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new ResponseEntity<>(task, HttpStatus.OK).getBody());
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        try {
+            lancar(depth, () -> new ResourceNotFoundException("Task com ID 42 não encontrada"));
+            return null;
+        } catch (ResourceNotFoundException e) {
+            return mapper.writeValueAsBytes(handler.handleResourceNotFound(e, request).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] conflict() throws JsonProcessingException {
+        try {
+            lancar(depth, () -> new TaskExists("Essa task já existe!"));
+            return null;
+        } catch (TaskExists e) {
+            return mapper.writeValueAsBytes(handler.handleTaskExists(e, request).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] notFoundWithStackTrace(Blackhole blackhole) throws JsonProcessingException {
+        try {
+            lancar(depth, () -> new IllegalStateException("Task com ID 42 não encontrada"));
+            return null;
+        } catch (IllegalStateException e) {
+            // * o trabalho do caminho antigo: stack trace preenchido e o "uri=..." montado e recortado
+            blackhole.consume(request.getDescription(false).replace("uri=", ""));
+            return mapper.writeValueAsBytes(
+                    handler.handleResourceNotFound(new ResourceNotFoundException(e.getMessage()), request).getBody());
+        }
+    }
+
+    private static void lancar(int profundidade, Supplier<RuntimeException> excecao) {
+        if (profundidade == 0) {
+            throw excecao.get();
+        }
+        lancar(profundidade - 1, excecao);
+    }
+}
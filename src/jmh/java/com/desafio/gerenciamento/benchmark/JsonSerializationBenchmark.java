@@ -0,0 +1,90 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.desafio.gerenciamento.config.ResponseJsonSerializers;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+// * Jackson por reflexão x ResponseJsonSerializers; com -prof gc o JMH também reporta bytes alocados por operação
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private List<TaskResponseDTO> tasks;
+    private List<ProjectResponseDTO> projects;
+    private ObjectWriter writer;
+    private ObjectWriter directWriter;
+    private ObjectWriter projectWriter;
+    private ObjectWriter directProjectWriter;
+
+    @Setup
+    public void setup() {
+        tasks = BenchmarkData.taskResponses(size);
+        projects = BenchmarkData.projectResponses(size);
+        // * configurado como o do Spring Boot: jsr310 registrado e datas como texto ISO, não como array
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper direto = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new SimpleModule()
+                        .addSerializer(new ResponseJsonSerializers.TaskSerializer())
+                        .addSerializer(new ResponseJsonSerializers.ProjectSerializer()))
+                .build();
+        writer = listWriter(mapper, TaskResponseDTO.class);
+        directWriter = listWriter(direto, TaskResponseDTO.class);
+        projectWriter = listWriter(mapper, ProjectResponseDTO.class);
+        directProjectWriter = listWriter(direto, ProjectResponseDTO.class);
+    }
+
+    private static ObjectWriter listWriter(ObjectMapper mapper, Class<?> tipo) {
+        return mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, tipo));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskListDirect() throws JsonProcessingException {
+        return directWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectList() throws JsonProcessingException {
+        return projectWriter.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectListDirect() throws JsonProcessingException {
+        return directProjectWriter.writeValueAsBytes(projects);
+    }
+}
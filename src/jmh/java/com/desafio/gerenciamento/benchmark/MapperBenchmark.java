@@ -0,0 +1,58 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.desafio.gerenciamento.mapper.ProjectMapper;
+import com.desafio.gerenciamento.mapper.TaskMapper;
+import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    private List<Task> tasks;
+    private List<Project> projects;
+
+    @Setup
+    public void setup() {
+        projects = BenchmarkData.projects(size);
+        tasks = BenchmarkData.tasks(size, projects);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskToResponseList() {
+        return taskMapper.toResponseList(tasks);
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> projectToResponseList() {
+        return projectMapper.toResponseList(projects);
+    }
+}
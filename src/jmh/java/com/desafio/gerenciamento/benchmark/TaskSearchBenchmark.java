@@ -0,0 +1,115 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.desafio.gerenciamento.GerenciamentoApplication;
+import com.desafio.gerenciamento.request.ProjectRequestDTO;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.TaskSearchResponseDTO;
+import com.desafio.gerenciamento.service.ProjectService;
+import com.desafio.gerenciamento.service.TaskBatchService;
+import com.desafio.gerenciamento.service.TaskSearchService;
+
+// * latência da busca FTS5 contra o LIKE '%termo%' que ela substitui, em uma tabela de 1M tasks
+// * (o setup popula target/search-benchmark.db pelo TaskBatchService e leva alguns minutos)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final int LOTE = 10_000;
+    private static final String[] VOCABULARIO = { "relatório", "deploy", "cliente", "migração", "revisão",
+            "orçamento", "contrato", "integração", "auditoria", "treinamento" };
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService taskSearchService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(GerenciamentoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + BenchmarkData.bancoNovo("target/search-benchmark.db"),
+                        "app.tasks.batch.max-items=" + LOTE,
+                        "logging.level.root=WARN")
+                .run();
+        taskSearchService = context.getBean(TaskSearchService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        ProjectRequestDTO projeto = new ProjectRequestDTO();
+        projeto.setName("Projeto busca");
+        projeto.setStartDate(BenchmarkData.BASE);
+        Long idProjeto = context.getBean(ProjectService.class).criarProjeto(projeto).getId();
+
+        TaskBatchService taskBatchService = context.getBean(TaskBatchService.class);
+        List<TaskRequestDTO> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < rows; i++) {
+            TaskRequestDTO dto = BenchmarkData.taskRequest("Task " + i, idProjeto, i);
+            // * um termo frequente (1 a cada 10) e um raro (1 a cada 10 mil) por descrição
+            dto.setDescription(VOCABULARIO[i % VOCABULARIO.length] + " da task " + i
+                    + (i % 10_000 == 0 ? " urgente" : ""));
+            lote.add(dto);
+            if (lote.size() == LOTE) {
+                taskBatchService.criarTasks(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            taskBatchService.criarTasks(lote);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO ftsTermoFrequente() {
+        return taskSearchService.buscar("auditoria", 20, 0);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO ftsTermoRaro() {
+        return taskSearchService.buscar("urgente", 20, 0);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO ftsPrefixo() {
+        return taskSearchService.buscar("integ", 20, 0);
+    }
+
+    @Benchmark
+    public List<Long> likeTermoRaro() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tb_task WHERE title LIKE ? OR description LIKE ? LIMIT 21",
+                Long.class, "%urgente%", "%urgente%");
+    }
+}
@@ -0,0 +1,103 @@
+package com.desafio.gerenciamento.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.desafio.gerenciamento.GerenciamentoApplication;
+import com.desafio.gerenciamento.request.ProjectRequestDTO;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.service.ProjectService;
+import com.desafio.gerenciamento.service.TaskBatchService;
+import com.desafio.gerenciamento.service.TaskService;
+
+// * serviço completo (Spring + Hibernate) contra um arquivo SQLite local populado no setup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int PROJETOS = 10;
+    private static final int LOTE = 5_000;
+
+    @Param({ "1000", "10000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long idProjeto;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(GerenciamentoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + BenchmarkData.bancoNovo("target/benchmark.db"),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        ProjectService projectService = context.getBean(ProjectService.class);
+        for (int p = 0; p < PROJETOS; p++) {
+            ProjectRequestDTO projeto = new ProjectRequestDTO();
+            projeto.setName("Projeto " + p);
+            projeto.setStartDate(BenchmarkData.BASE);
+            projectService.criarProjeto(projeto);
+        }
+        idProjeto = projectService.listarProjetos().get(0).getId();
+
+        TaskBatchService taskBatchService = context.getBean(TaskBatchService.class);
+        List<TaskRequestDTO> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < rows; i++) {
+            lote.add(BenchmarkData.taskRequest("Seed " + i, idProjeto, i));
+            if (lote.size() == LOTE) {
+                taskBatchService.criarTasks(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            taskBatchService.criarTasks(lote);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> listarTasks() {
+        return taskService.listarTasks();
+    }
+
+    @Benchmark
+    public TaskResponseDTO criarTask() {
+        long i = sequencia.incrementAndGet();
+        TaskRequestDTO dto = BenchmarkData.taskRequest("Bench " + i, idProjeto, (int) i);
+        return taskService.criarTask(dto);
+    }
+}
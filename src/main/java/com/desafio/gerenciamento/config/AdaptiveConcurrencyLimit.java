@@ -0,0 +1,54 @@
+package com.desafio.gerenciamento.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// * AIMD: o limite sobe de 1 enquanto as respostas saem abaixo do limiar de latência com o limite em uso
+// * e cai por um fator quando uma resposta passa do limiar ou termina com erro 5xx
+class AdaptiveConcurrencyLimit {
+
+    private final int minimo;
+    private final int maximo;
+    private final long limiarNanos;
+    private final double reducao;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private volatile int limite;
+
+    AdaptiveConcurrencyLimit(int inicial, int minimo, int maximo, long limiarNanos, double reducao) {
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limiarNanos = limiarNanos;
+        this.reducao = reducao;
+        this.limite = Math.max(minimo, Math.min(maximo, inicial));
+    }
+
+    boolean tentarAdquirir() {
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= limite) {
+                return false;
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    synchronized void liberar(long duracaoNanos, boolean falhou) {
+        int emUso = emAndamento.getAndDecrement();
+        if (falhou || duracaoNanos > limiarNanos) {
+            limite = Math.max(minimo, (int) (limite * reducao));
+        } else if (emUso * 2 >= limite) {
+            // * só cresce quando o limite atual está de fato sendo usado
+            limite = Math.min(maximo, limite + 1);
+        }
+    }
+
+    int limite() {
+        return limite;
+    }
+
+    int emAndamento() {
+        return emAndamento.get();
+    }
+}
@@ -0,0 +1,78 @@
+package com.desafio.gerenciamento.config;
+
+import java.lang.reflect.Member;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import com.desafio.gerenciamento.model.IdSequencial;
+import com.desafio.gerenciamento.service.TenantContext;
+
+// * sem sequence de verdade (SQLite) o Hibernate reserva os blocos na tabela tb_*_seq por outra conexão, que disputa
+// * o lock do arquivo com a da própria transação: SQLITE_BUSY sem WAL, SQLITE_BUSY_SNAPSHOT com WAL. Lá os ids saem
+// * de um contador em memória por banco (tenant), iniciado no maior id gravado; o processo é o único dono do arquivo
+public class IdSequencialGenerator extends SequenceStyleGenerator implements AnnotationBasedGenerator<IdSequencial> {
+
+    private IdSequencial config;
+    private final ConcurrentHashMap<String, AtomicLong> porBanco = new ConcurrentHashMap<>();
+    private boolean emMemoria;
+    private String sqlMaiorId;
+
+    @Override
+    public void initialize(IdSequencial config, Member member, GeneratorCreationContext context) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parametros, ServiceRegistry serviceRegistry) throws MappingException {
+        parametros.setProperty(SEQUENCE_PARAM, config.sequencia());
+        parametros.setProperty(INCREMENT_PARAM, String.valueOf(config.bloco()));
+        super.configure(type, parametros, serviceRegistry);
+        emMemoria = !getDatabaseStructure().isPhysicalSequence();
+        sqlMaiorId = Arrays.stream(config.tabelas())
+                .map(tabela -> "select max(id) as id from " + tabela)
+                .collect(Collectors.joining(" union all ", "select coalesce(max(id), 0) from (", ")"));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object entidade) {
+        if (!emMemoria) {
+            return super.generate(session, entidade);
+        }
+        String banco = TenantContext.atual();
+        AtomicLong contador = porBanco.get(banco);
+        if (contador == null) {
+            // * lido fora do computeIfAbsent: com o gate, esperar a conexão de escrita segurando a chave travaria
+            // * quem já está com ela. Enquanto não há contador nenhum id saiu, então toda leitura dá o mesmo valor
+            long maior = maiorId(session);
+            contador = porBanco.computeIfAbsent(banco, chave -> new AtomicLong(maior));
+        }
+        return contador.incrementAndGet();
+    }
+
+    // * na conexão da própria transação: é só leitura, não disputa lock com ela
+    private long maiorId(SharedSessionContractImplementor session) {
+        try (Statement statement = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection()
+                .createStatement();
+                ResultSet resultado = statement.executeQuery(sqlMaiorId)) {
+            resultado.next();
+            return resultado.getLong(1);
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "Não foi possível ler o maior id",
+                    sqlMaiorId);
+        }
+    }
+}
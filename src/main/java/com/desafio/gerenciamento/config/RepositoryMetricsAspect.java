@@ -0,0 +1,78 @@
+package com.desafio.gerenciamento.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// * o tempo de cada consulta já vem de spring.data.repository.invocations; aqui medimos as linhas retornadas
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final String PACOTE_REPOSITORIOS = "com.desafio.gerenciamento.repository";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Class<?>, String> nomes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> linhas = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object contarLinhas(ProceedingJoinPoint pjp) throws Throwable {
+        Object resultado = pjp.proceed();
+
+        int quantidade = contar(resultado);
+        if (quantidade >= 0) {
+            Method metodo = ((MethodSignature) pjp.getSignature()).getMethod();
+            String repositorio = nomes.computeIfAbsent(pjp.getThis().getClass(), this::nomeRepositorio);
+            linhas.computeIfAbsent(repositorio + "." + metodo.getName(), chave -> DistributionSummary
+                    .builder("app.repository.rows")
+                    .description("Linhas retornadas por consulta")
+                    .tag("repository", repositorio)
+                    .tag("method", metodo.getName())
+                    .register(registry))
+                    .record(quantidade);
+        }
+        return resultado;
+    }
+
+    // * -1 para resultados que não são linhas (contagens, booleanos, streams)
+    private int contar(Object resultado) {
+        if (resultado instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        if (resultado instanceof Slice<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        if (resultado instanceof Optional<?> opcional) {
+            return opcional.isPresent() ? 1 : 0;
+        }
+        if (resultado == null) {
+            return 0;
+        }
+        return resultado.getClass().getName().startsWith("com.desafio.gerenciamento") ? 1 : -1;
+    }
+
+    private String nomeRepositorio(Class<?> proxy) {
+        for (Class<?> interfaceProxy : ClassUtils.getAllInterfacesForClass(proxy)) {
+            if (interfaceProxy.getPackageName().equals(PACOTE_REPOSITORIOS)) {
+                return interfaceProxy.getSimpleName();
+            }
+        }
+        return proxy.getSimpleName();
+    }
+}
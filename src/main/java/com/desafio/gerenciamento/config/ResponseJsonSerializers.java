@@ -0,0 +1,143 @@
+package com.desafio.gerenciamento.config;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+// * escrita direta no JsonGenerator dos DTOs das listagens, sem introspecção por reflexão: nomes de campo e
+// * constantes dos enums já codificados e datas montadas sem passar pelo DateTimeFormatter. O JSON gerado é o
+// * mesmo do Jackson padrão (enums pelo name(), datas ISO e campos nulos incluídos)
+@JsonComponent
+public class ResponseJsonSerializers {
+
+    private static final SerializedString ID_TASK = new SerializedString("idTask");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString ID_PROJECT = new SerializedString("idProject");
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString START_DATE = new SerializedString("startDate");
+    private static final SerializedString END_DATE = new SerializedString("endDate");
+
+    private static final SerializedString[] STATUS_VALORES = constantes(Status.values());
+    private static final SerializedString[] PRIORITY_VALORES = constantes(Priority.values());
+
+    public static class TaskSerializer extends StdSerializer<TaskResponseDTO> {
+
+        public TaskSerializer() {
+            super(TaskResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(TaskResponseDTO task, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(task);
+            numero(gen, ID_TASK, task.getIdTask());
+            texto(gen, TITLE, task.getTitle());
+            texto(gen, DESCRIPTION, task.getDescription());
+            constante(gen, STATUS, task.getStatus(), STATUS_VALORES);
+            constante(gen, PRIORITY, task.getPriority(), PRIORITY_VALORES);
+            data(gen, DUE_DATE, task.getDueDate());
+            numero(gen, ID_PROJECT, task.getIdProject());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ProjectSerializer extends StdSerializer<ProjectResponseDTO> {
+
+        public ProjectSerializer() {
+            super(ProjectResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(ProjectResponseDTO projeto, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(projeto);
+            numero(gen, ID, projeto.getId());
+            texto(gen, NAME, projeto.getName());
+            texto(gen, DESCRIPTION, projeto.getDescription());
+            data(gen, START_DATE, projeto.getStartDate());
+            data(gen, END_DATE, projeto.getEndDate());
+            gen.writeEndObject();
+        }
+    }
+
+    private static SerializedString[] constantes(Enum<?>[] valores) {
+        SerializedString[] codificados = new SerializedString[valores.length];
+        for (Enum<?> valor : valores) {
+            codificados[valor.ordinal()] = new SerializedString(valor.name());
+        }
+        return codificados;
+    }
+
+    private static void numero(JsonGenerator gen, SerializedString campo, Long valor) throws IOException {
+        gen.writeFieldName(campo);
+        if (valor == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(valor.longValue());
+        }
+    }
+
+    private static void texto(JsonGenerator gen, SerializedString campo, String valor) throws IOException {
+        gen.writeFieldName(campo);
+        if (valor == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(valor);
+        }
+    }
+
+    private static void constante(JsonGenerator gen, SerializedString campo, Enum<?> valor,
+            SerializedString[] codificados) throws IOException {
+        gen.writeFieldName(campo);
+        if (valor == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(codificados[valor.ordinal()]);
+        }
+    }
+
+    // * yyyy-MM-dd, igual ao ISO_LOCAL_DATE do LocalDateSerializer; anos fora de 0-9999 usam o toString()
+    private static void data(JsonGenerator gen, SerializedString campo, LocalDate valor) throws IOException {
+        gen.writeFieldName(campo);
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        int ano = valor.getYear();
+        if (ano < 0 || ano > 9999) {
+            gen.writeString(valor.toString());
+            return;
+        }
+        char[] texto = new char[10];
+        texto[0] = (char) ('0' + ano / 1000);
+        texto[1] = (char) ('0' + ano / 100 % 10);
+        texto[2] = (char) ('0' + ano / 10 % 10);
+        texto[3] = (char) ('0' + ano % 10);
+        texto[4] = '-';
+        dois(texto, 5, valor.getMonthValue());
+        texto[7] = '-';
+        dois(texto, 8, valor.getDayOfMonth());
+        gen.writeString(texto, 0, 10);
+    }
+
+    private static void dois(char[] texto, int posicao, int valor) {
+        texto[posicao] = (char) ('0' + valor / 10);
+        texto[posicao + 1] = (char) ('0' + valor % 10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.desafio.gerenciamento.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// * transações readOnly usam o pool de leitura (WAL); as demais esperam a única conexão de escrita,
+// * evitando SQLITE_BUSY quando muitas requisições escrevem ao mesmo tempo
+@Configuration
+@ConditionalOnProperty(name = "app.sqlite.gate.enabled", havingValue = "true")
+// * com tenants cada banco ganha o próprio par de pools em TenantDataSources
+@ConditionalOnProperty(name = "app.tenants.enabled", havingValue = "false", matchIfMissing = true)
+public class SqliteDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+            @Value("${app.sqlite.gate.read-pool-size:4}") int conexoesLeitura,
+            @Value("${app.sqlite.gate.write-timeout:10s}") Duration esperaEscrita,
+            @Value("${app.sqlite.gate.busy-timeout:5s}") Duration busyTimeout) {
+        Map<String, String> pragmas = pragmas(environment);
+        String url = properties.determineUrl();
+
+        HikariDataSource escrita = criarPool(properties, url, "sqlite-writer", 1, busyTimeout, pragmas);
+        escrita.setConnectionTimeout(esperaEscrita.toMillis());
+
+        // * com o driver do SQLite as chamadas JDBC prendem a carrier thread, então o pool de leitura
+        // * deve ficar abaixo do número de processadores
+        HikariDataSource leitura = criarPool(properties, url, "sqlite-reader", conexoesLeitura, busyTimeout,
+                pragmas);
+
+        // * a conexão física só é obtida no primeiro comando, quando o readOnly da transação já é conhecido
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(escrita);
+        proxy.setReadOnlyDataSource(leitura);
+        return proxy;
+    }
+
+    // * app.sqlite.pragma.cache-size=... vira a propriedade cache_size do driver, aplicada a cada conexão aberta
+    static Map<String, String> pragmas(Environment environment) {
+        return Binder.get(environment)
+                .bind("app.sqlite.pragma", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+    }
+
+    static HikariDataSource criarPool(DataSourceProperties properties, String url, String nome, int tamanho,
+            Duration busyTimeout, Map<String, String> pragmas) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url).build();
+        pool.setPoolName(nome);
+        pool.setMaximumPoolSize(tamanho);
+        pool.setMinimumIdle(tamanho);
+        // * conexão com arquivo local não expira; reciclar só descartaria o cache de páginas dela
+        pool.setMaxLifetime(0);
+        pool.addDataSourceProperty("journal_mode", "WAL");
+        pool.addDataSourceProperty("busy_timeout", String.valueOf(busyTimeout.toMillis()));
+        pragmas.forEach((nomePragma, valor) -> pool.addDataSourceProperty(nomePragma.replace('-', '_'), valor));
+        return pool;
+    }
+}
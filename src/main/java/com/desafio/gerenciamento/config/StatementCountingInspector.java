@@ -0,0 +1,23 @@
+package com.desafio.gerenciamento.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// * conta os comandos SQL emitidos pelo Hibernate na thread da requisição atual
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CONTADOR = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        CONTADOR.get()[0]++;
+        return sql;
+    }
+
+    static void reset() {
+        CONTADOR.get()[0] = 0;
+    }
+
+    static int count() {
+        return CONTADOR.get()[0];
+    }
+}
@@ -0,0 +1,44 @@
+package com.desafio.gerenciamento.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// * registra quantos comandos SQL cada endpoint executou
+class StatementMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, DistributionSummary> porEndpoint = new ConcurrentHashMap<>();
+
+    StatementMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+        String metodo = request.getMethod();
+
+        porEndpoint.computeIfAbsent(metodo + " " + uri, chave -> DistributionSummary
+                .builder("app.http.statements")
+                .description("Comandos SQL executados por requisição")
+                .tag("method", metodo)
+                .tag("uri", uri)
+                .register(registry))
+                .record(StatementCountingInspector.count());
+    }
+}
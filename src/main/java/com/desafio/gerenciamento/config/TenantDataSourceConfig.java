@@ -0,0 +1,121 @@
+package com.desafio.gerenciamento.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.jdbc.connections.spi.AbstractDataSourceBasedMultiTenantConnectionProviderImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.desafio.gerenciamento.service.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// * um banco SQLite por tenant, escolhido pelo TenantContext da thread. O DataSource da aplicação roteia por tenant
+// * e o Hibernate recebe o mesmo roteamento como multi-tenancy própria, para que os blocos de ids reservados
+// * das sequences fiquem separados por tenant
+@Configuration
+@ConditionalOnProperty(name = "app.tenants.enabled", havingValue = "true")
+public class TenantDataSourceConfig {
+
+    @Bean
+    TenantDataSources tenantDataSources(DataSourceProperties properties, Environment environment,
+            MeterRegistry registry,
+            @Value("${app.tenants.directory:tenants}") Path diretorio,
+            @Value("${app.tenants.auto-create:false}") boolean criarNovos,
+            @Value("${app.tenants.max:100}") int maximo,
+            @Value("${app.tenants.idle-timeout:10m}") Duration ociosidade,
+            @Value("${app.sqlite.gate.read-pool-size:4}") int conexoesLeitura,
+            @Value("${app.sqlite.gate.write-timeout:10s}") Duration esperaEscrita,
+            @Value("${app.sqlite.gate.busy-timeout:5s}") Duration busyTimeout) {
+        // * os arquivos dos tenants seguem spring.flyway.*; todo tenant é SQLite, então {vendor} é sempre sqlite
+        FlywayProperties flyway = Binder.get(environment).bind("spring.flyway", FlywayProperties.class)
+                .orElseGet(FlywayProperties::new);
+        return new TenantDataSources(properties, SqliteDataSourceConfig.pragmas(environment), diretorio, criarNovos,
+                maximo, conexoesLeitura, esperaEscrita, busyTimeout, ociosidade,
+                flyway.getLocations().stream().map(local -> local.replace("{vendor}", "sqlite")).toList(),
+                flyway.isBaselineOnMigrate(), registry);
+    }
+
+    @Bean
+    public DataSource dataSource(TenantDataSources tenants) {
+        return new TenantRoutingDataSource(tenants);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer tenantHibernateProperties(TenantDataSources tenants) {
+        return propriedades -> {
+            propriedades.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, new TenantConnectionProvider(tenants));
+            propriedades.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver());
+        };
+    }
+
+    // * Flyway, health check e JDBC direto passam por aqui
+    private static class TenantRoutingDataSource extends AbstractRoutingDataSource {
+
+        private final TenantDataSources tenants;
+
+        TenantRoutingDataSource(TenantDataSources tenants) {
+            this.tenants = tenants;
+            setTargetDataSources(Map.of());
+            setLenientFallback(false);
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TenantContext.atual();
+        }
+
+        // * os pools não são conhecidos de antemão: abre na primeira vez que o tenant aparece
+        @Override
+        protected DataSource determineTargetDataSource() {
+            return tenants.dataSource((String) determineCurrentLookupKey());
+        }
+    }
+
+    private static class TenantConnectionProvider
+            extends AbstractDataSourceBasedMultiTenantConnectionProviderImpl<String> {
+
+        private final transient TenantDataSources tenants;
+
+        TenantConnectionProvider(TenantDataSources tenants) {
+            this.tenants = tenants;
+        }
+
+        @Override
+        protected DataSource selectAnyDataSource() {
+            return tenants.dataSource(TenantContext.PADRAO);
+        }
+
+        @Override
+        protected DataSource selectDataSource(String tenant) {
+            return tenants.dataSource(tenant);
+        }
+    }
+
+    private static class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+        @Override
+        public String resolveCurrentTenantIdentifier() {
+            return TenantContext.atual();
+        }
+
+        @Override
+        public boolean validateExistingCurrentSessions() {
+            return true;
+        }
+    }
+}
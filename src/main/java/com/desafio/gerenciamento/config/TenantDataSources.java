@@ -0,0 +1,181 @@
+package com.desafio.gerenciamento.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.desafio.gerenciamento.handler.ServiceOverloadedException;
+import com.desafio.gerenciamento.service.TenantContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// * um arquivo SQLite por tenant, cada um com o par de pools do gate (uma conexão de escrita e leituras em WAL):
+// * o lock de escrita de um tenant não segura os outros. Os pools abrem na primeira requisição do tenant e,
+// * sem uso por idle-timeout, o Hikari fecha todas as conexões e com elas o arquivo. Pools, estados em memória e
+// * métricas de um tenant ficam até o desligamento, então no máximo app.tenants.max tenants abrem por subida
+class TenantDataSources implements MeterBinder, AutoCloseable {
+
+    private record Tenant(DataSource dataSource, HikariDataSource escrita, HikariDataSource leitura) {
+    }
+
+    private final DataSourceProperties properties;
+    private final Map<String, String> pragmas;
+    private final Path diretorio;
+    private final boolean criarNovos;
+    private final int maximo;
+    private final int conexoesLeitura;
+    private final Duration esperaEscrita;
+    private final Duration busyTimeout;
+    private final Duration ociosidade;
+    private final List<String> migracoes;
+    private final boolean baselineOnMigrate;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Tenant> abertos = new ConcurrentHashMap<>();
+    // * vagas tomadas antes de abrir, para que aberturas simultâneas não passem juntas do limite
+    private final AtomicInteger reservados = new AtomicInteger();
+
+    // * o Hikari criaria uma thread de manutenção por pool; todos os tenants dividem esta
+    private final ScheduledExecutorService manutencao = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "tenant-pool-housekeeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    TenantDataSources(DataSourceProperties properties, Map<String, String> pragmas, Path diretorio,
+            boolean criarNovos, int maximo, int conexoesLeitura, Duration esperaEscrita, Duration busyTimeout,
+            Duration ociosidade, List<String> migracoes, boolean baselineOnMigrate, MeterRegistry registry) {
+        this.properties = properties;
+        this.pragmas = pragmas;
+        this.diretorio = diretorio;
+        this.criarNovos = criarNovos;
+        this.maximo = maximo;
+        this.conexoesLeitura = conexoesLeitura;
+        this.esperaEscrita = esperaEscrita;
+        this.busyTimeout = busyTimeout;
+        this.ociosidade = ociosidade;
+        this.migracoes = migracoes;
+        this.baselineOnMigrate = baselineOnMigrate;
+        this.registry = registry;
+    }
+
+    // * com auto-create desligado só atende tenants cujo arquivo já existe
+    boolean aceita(String tenant) {
+        return criarNovos || TenantContext.PADRAO.equals(tenant) || abertos.containsKey(tenant)
+                || Files.exists(arquivo(tenant));
+    }
+
+    DataSource dataSource(String tenant) {
+        return abertos.computeIfAbsent(tenant, this::abrir).dataSource();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.tenants.pools", abertos, Map::size)
+                .description("Tenants com pools criados desde a subida")
+                .register(registry);
+        Gauge.builder("app.tenants.open", this, TenantDataSources::comConexoes)
+                .description("Tenants com o arquivo aberto (alguma conexão viva)")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        abertos.values().forEach(tenant -> {
+            tenant.escrita().close();
+            tenant.leitura().close();
+        });
+        manutencao.shutdownNow();
+    }
+
+    private Path arquivo(String tenant) {
+        return diretorio.resolve(tenant + ".db");
+    }
+
+    private Tenant abrir(String tenant) {
+        if (reservados.incrementAndGet() > maximo) {
+            reservados.decrementAndGet();
+            throw new ServiceOverloadedException("Limite de " + maximo + " tenants abertos atingido");
+        }
+        try {
+            return abrirPools(tenant);
+        } catch (RuntimeException e) {
+            reservados.decrementAndGet();
+            throw e;
+        }
+    }
+
+    // * o tenant padrão continua no banco de spring.datasource.url
+    private Tenant abrirPools(String tenant) {
+        String url;
+        if (TenantContext.PADRAO.equals(tenant)) {
+            url = properties.determineUrl();
+        } else {
+            try {
+                Files.createDirectories(diretorio);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível criar o diretório dos tenants " + diretorio, e);
+            }
+            url = "jdbc:sqlite:" + arquivo(tenant);
+        }
+
+        HikariDataSource escrita = criarPool(url, "tenant-" + tenant + "-writer", 1);
+        escrita.setConnectionTimeout(esperaEscrita.toMillis());
+        HikariDataSource leitura = criarPool(url, "tenant-" + tenant + "-reader", conexoesLeitura);
+
+        // * arquivo novo ou de uma versão anterior da aplicação: migra antes da primeira consulta
+        Flyway.configure()
+                .dataSource(escrita)
+                .locations(migracoes.toArray(String[]::new))
+                .baselineOnMigrate(baselineOnMigrate)
+                .load()
+                .migrate();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(escrita);
+        proxy.setReadOnlyDataSource(leitura);
+        return new Tenant(proxy, escrita, leitura);
+    }
+
+    private HikariDataSource criarPool(String url, String nome, int tamanho) {
+        HikariDataSource pool = SqliteDataSourceConfig.criarPool(properties, url, nome, tamanho, busyTimeout, pragmas);
+        // * sem mínimo de conexões ociosas: depois de idle-timeout parado o tenant não prende descritor nem memória
+        pool.setMinimumIdle(0);
+        pool.setIdleTimeout(ociosidade.toMillis());
+        pool.setScheduledExecutor(manutencao);
+        // * hikaricp.connections.* com a tag pool=tenant-<id>-writer/reader
+        pool.setMetricRegistry(registry);
+        return pool;
+    }
+
+    private int comConexoes() {
+        int total = 0;
+        for (Tenant tenant : abertos.values()) {
+            if (conexoes(tenant.escrita()) + conexoes(tenant.leitura()) > 0) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private static int conexoes(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        return mxBean == null ? 0 : mxBean.getTotalConnections();
+    }
+}
@@ -0,0 +1,61 @@
+package com.desafio.gerenciamento.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.desafio.gerenciamento.handler.ResourceNotFoundException;
+import com.desafio.gerenciamento.service.TenantContext;
+import com.desafio.gerenciamento.service.TenantOpenedEvent;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// * define o tenant da requisição a partir do cabeçalho; sem cabeçalho vale o tenant padrão
+class TenantInterceptor implements AsyncHandlerInterceptor {
+
+    private final TenantDataSources tenants;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String cabecalho;
+    private final ConcurrentHashMap<String, Boolean> vistos = new ConcurrentHashMap<>();
+
+    TenantInterceptor(TenantDataSources tenants, ApplicationEventPublisher eventPublisher, String cabecalho) {
+        this.tenants = tenants;
+        this.eventPublisher = eventPublisher;
+        this.cabecalho = cabecalho;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenant = TenantContext.validar(request.getHeader(cabecalho));
+        if (!tenants.aceita(tenant)) {
+            throw new ResourceNotFoundException("Tenant " + tenant + " não encontrado");
+        }
+        // * a primeira requisição do tenant abre os pools (ou recebe 503 acima de app.tenants.max) e espera os
+        // * estados em memória dele carregarem; só tenants abertos entram em vistos
+        vistos.computeIfAbsent(tenant, t -> {
+            tenants.dataSource(t);
+            eventPublisher.publishEvent(new TenantOpenedEvent(t));
+            return Boolean.TRUE;
+        });
+        // * definido só depois de tudo que pode falhar: com exceção no preHandle o afterCompletion não roda
+        TenantContext.definir(tenant);
+        // * a mesma URL responde dados de outro banco conforme o cabeçalho; caches não podem misturar os ETags
+        response.addHeader("Vary", cabecalho);
+        return true;
+    }
+
+    // * exportações continuam em outra thread, que recebe o tenant pelo TaskDecorator
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        TenantContext.limpar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        TenantContext.limpar();
+    }
+}
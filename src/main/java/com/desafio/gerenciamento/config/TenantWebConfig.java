@@ -0,0 +1,40 @@
+package com.desafio.gerenciamento.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.desafio.gerenciamento.service.TenantContext;
+
+@Configuration
+@ConditionalOnProperty(name = "app.tenants.enabled", havingValue = "true")
+public class TenantWebConfig implements WebMvcConfigurer {
+
+    private final TenantInterceptor interceptor;
+
+    public TenantWebConfig(TenantDataSources tenants, ApplicationEventPublisher eventPublisher,
+            @Value("${app.tenants.header:X-Tenant-Id}") String cabecalho) {
+        this.interceptor = new TenantInterceptor(tenants, eventPublisher, cabecalho);
+    }
+
+    // * antes de qualquer transação (que abre a sessão do Hibernate já com o tenant) e do limite de escritas
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(interceptor).order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    // * aplicado pelo Spring Boot ao executor das requisições assíncronas (StreamingResponseBody)
+    @Bean
+    TaskDecorator tenantTaskDecorator() {
+        return tarefa -> {
+            String tenant = TenantContext.atual();
+            return () -> TenantContext.executar(tenant, tarefa);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.desafio.gerenciamento.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// * descarta escritas em rajada antes que fiquem presas no lock do SQLite e atrasem também as leituras
+@Configuration
+@ConditionalOnProperty(name = "app.write-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class WriteLimitConfig implements WebMvcConfigurer {
+
+    private final WriteLimitInterceptor interceptor;
+
+    public WriteLimitConfig(MeterRegistry registry,
+            @Value("${app.write-limit.initial:8}") int inicial,
+            @Value("${app.write-limit.min:1}") int minimo,
+            @Value("${app.write-limit.max:64}") int maximo,
+            @Value("${app.write-limit.latency-threshold:250ms}") Duration limiarLatencia,
+            @Value("${app.write-limit.backoff:0.9}") double reducao) {
+        this.interceptor = new WriteLimitInterceptor(registry, inicial, minimo, maximo, limiarLatencia, reducao);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(interceptor).addPathPatterns("/tasks/**", "/projects/**");
+    }
+}
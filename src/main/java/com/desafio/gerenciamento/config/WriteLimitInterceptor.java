@@ -0,0 +1,111 @@
+package com.desafio.gerenciamento.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.desafio.gerenciamento.handler.ServiceOverloadedException;
+import com.desafio.gerenciamento.service.TenantContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// * um limite adaptativo por endpoint de escrita e tenant (cada tenant tem o próprio banco); leituras passam direto.
+// * As métricas ficam só por endpoint, somando os tenants: o id do tenant vem do cliente e não vira tag
+class WriteLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LIMITE = WriteLimitInterceptor.class.getName() + ".limite";
+    private static final String INICIO = WriteLimitInterceptor.class.getName() + ".inicio";
+
+    private final MeterRegistry registry;
+    private final int inicial;
+    private final int minimo;
+    private final int maximo;
+    private final long limiarNanos;
+    private final double reducao;
+    private final ConcurrentHashMap<String, Endpoint> porEndpoint = new ConcurrentHashMap<>();
+
+    private final class Endpoint {
+        final ConcurrentHashMap<String, AdaptiveConcurrencyLimit> porTenant = new ConcurrentHashMap<>();
+        final Counter rejeitadas;
+
+        Endpoint(Counter rejeitadas) {
+            this.rejeitadas = rejeitadas;
+        }
+
+        AdaptiveConcurrencyLimit doTenant(String tenant) {
+            return porTenant.computeIfAbsent(tenant,
+                    t -> new AdaptiveConcurrencyLimit(inicial, minimo, maximo, limiarNanos, reducao));
+        }
+
+        int emAndamento() {
+            return porTenant.values().stream().mapToInt(AdaptiveConcurrencyLimit::emAndamento).sum();
+        }
+
+        int limite() {
+            return porTenant.values().stream().mapToInt(AdaptiveConcurrencyLimit::limite).sum();
+        }
+    }
+
+    WriteLimitInterceptor(MeterRegistry registry, int inicial, int minimo, int maximo, Duration limiarLatencia,
+            double reducao) {
+        this.registry = registry;
+        this.inicial = inicial;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limiarNanos = limiarLatencia.toNanos();
+        this.reducao = reducao;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String metodo = request.getMethod();
+        if ("GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo)) {
+            return true;
+        }
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+
+        Endpoint endpoint = porEndpoint.computeIfAbsent(metodo + " " + uri, chave -> registrar(metodo, uri));
+        AdaptiveConcurrencyLimit limite = endpoint.doTenant(TenantContext.atual());
+        if (!limite.tentarAdquirir()) {
+            endpoint.rejeitadas.increment();
+            throw new ServiceOverloadedException("Servidor sobrecarregado. Tente novamente em instantes!");
+        }
+        request.setAttribute(LIMITE, limite);
+        request.setAttribute(INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(LIMITE) instanceof AdaptiveConcurrencyLimit limite) {
+            long duracao = System.nanoTime() - (long) request.getAttribute(INICIO);
+            limite.liberar(duracao, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private Endpoint registrar(String metodo, String uri) {
+        Tags tags = Tags.of("method", metodo, "uri", uri);
+        Endpoint endpoint = new Endpoint(Counter.builder("app.http.write.rejected")
+                .description("Escritas recusadas com 503 por excederem o limite")
+                .tags(tags)
+                .register(registry));
+        Gauge.builder("app.http.write.inflight", endpoint, Endpoint::emAndamento)
+                .description("Escritas em andamento no endpoint (na fila do escritor do SQLite ou executando)")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("app.http.write.limit", endpoint, Endpoint::limite)
+                .description("Limite atual de escritas simultâneas do endpoint, somado entre os tenants")
+                .tags(tags)
+                .register(registry);
+        return endpoint;
+    }
+}
@@ -1,14 +1,23 @@
 package com.desafio.gerenciamento.controller;
 
 import com.desafio.gerenciamento.request.ProjectRequestDTO;
+import com.desafio.gerenciamento.response.ProjectCacheStatsDTO;
+import com.desafio.gerenciamento.response.ProjectCriticalPathDTO;
 import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.ProjectStatsDTO;
+import com.desafio.gerenciamento.service.NdjsonWriter;
 import com.desafio.gerenciamento.service.ProjectService;
+import com.desafio.gerenciamento.service.TaskDependencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,9 +27,11 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskDependencyService taskDependencyService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, TaskDependencyService taskDependencyService) {
         this.projectService = projectService;
+        this.taskDependencyService = taskDependencyService;
     }
 
     @PostMapping
@@ -32,8 +43,51 @@ public class ProjectController {
 
     @GetMapping
     @Operation(summary = "Lista todos os projetos", description = "Lista todos os projetos criados")
-    public ResponseEntity<List<ProjectResponseDTO>> listarTodosProjetos() {
+    public ResponseEntity<List<ProjectResponseDTO>> listarTodosProjetos(WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectService.etagProjetos())) {
+            return null;
+        }
         List<ProjectResponseDTO> projects = projectService.listarProjetos();
         return new ResponseEntity<>(projects,HttpStatus.OK);
     }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar projetos", description = "Envia todos os projetos em NDJSON (um por linha), lidos em páginas por id; com Accept-Encoding: gzip a resposta sai comprimida")
+    public ResponseEntity<StreamingResponseBody> exportarProjetos(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = NdjsonWriter.aceitaGzip(acceptEncoding);
+        StreamingResponseBody corpo = saida -> projectService.exportarProjetos(saida, gzip);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return resposta.body(corpo);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Estatísticas de todos os projetos", description = "Contagem de tasks por status e prioridade de cada projeto")
+    public ResponseEntity<List<ProjectStatsDTO>> estatisticasProjetos() {
+        return new ResponseEntity<>(projectService.estatisticas(),HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/stats")
+    @Operation(summary = "Estatísticas de um projeto", description = "Contagem de tasks do projeto por status e prioridade")
+    public ResponseEntity<ProjectStatsDTO> estatisticasProjeto(@PathVariable Long id) {
+        return new ResponseEntity<>(projectService.estatisticas(id),HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/critical-path")
+    @Operation(summary = "Caminho crítico do projeto", description = "Maior cadeia de tarefas abertas ligadas por dependências, da primeira bloqueadora até a última tarefa")
+    public ResponseEntity<ProjectCriticalPathDTO> caminhoCritico(@PathVariable Long id) {
+        return new ResponseEntity<>(taskDependencyService.caminhoCritico(id),HttpStatus.OK);
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Estatísticas do cache de projetos", description = "Retorna acertos, falhas e remoções do cache de consultas de projeto")
+    public ResponseEntity<ProjectCacheStatsDTO> estatisticasCache() {
+        return new ResponseEntity<>(projectService.estatisticasCache(),HttpStatus.OK);
+    }
 }
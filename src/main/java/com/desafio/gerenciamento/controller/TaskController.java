@@ -1,17 +1,37 @@
 package com.desafio.gerenciamento.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.desafio.gerenciamento.request.UpdateTaskStatusDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.request.TaskBatchRequestDTO;
+import com.desafio.gerenciamento.request.TaskFilter;
 import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.request.TaskStatusBulkRequestDTO;
+import com.desafio.gerenciamento.response.TaskBatchResponseDTO;
+import com.desafio.gerenciamento.response.TaskPageResponseDTO;
 import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.response.TaskSearchResponseDTO;
+import com.desafio.gerenciamento.response.TaskStatusBulkResponseDTO;
+import com.desafio.gerenciamento.service.NdjsonWriter;
+import com.desafio.gerenciamento.service.TaskBatchService;
+import com.desafio.gerenciamento.service.TaskDependencyService;
+import com.desafio.gerenciamento.service.TaskDueService;
+import com.desafio.gerenciamento.service.TaskEventStream;
+import com.desafio.gerenciamento.service.TaskSearchService;
 import com.desafio.gerenciamento.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -22,9 +42,21 @@ import jakarta.validation.Valid;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskSearchService taskSearchService;
+    private final TaskDueService taskDueService;
+    private final TaskEventStream taskEventStream;
+    private final TaskDependencyService taskDependencyService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskBatchService taskBatchService,
+            TaskSearchService taskSearchService, TaskDueService taskDueService, TaskEventStream taskEventStream,
+            TaskDependencyService taskDependencyService) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskSearchService = taskSearchService;
+        this.taskDueService = taskDueService;
+        this.taskEventStream = taskEventStream;
+        this.taskDependencyService = taskDependencyService;
     }
 
     @PostMapping
@@ -34,27 +66,131 @@ public class TaskController {
         return new ResponseEntity<>(novaTask,HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Criar tarefas em lote", description = "Cria várias tarefas em uma única transação e retorna o resultado de cada item")
+    public ResponseEntity<TaskBatchResponseDTO> criarTasks(@Valid @RequestBody TaskBatchRequestDTO request) {
+        TaskBatchResponseDTO resultado = taskBatchService.criarTasks(request.getTasks());
+        return new ResponseEntity<>(resultado, HttpStatus.OK);
+    }
+
     @GetMapping
-    @Operation(summary = "Listar tarefas", description = "Retorna lista de tarefas com opção de filtros")
+    @Operation(summary = "Listar tarefas", description = "Retorna lista de tarefas com opção de filtros; match=all combina os filtros com AND (padrão: any); includeArchived=true inclui as tarefas arquivadas")
     public ResponseEntity<List<TaskResponseDTO>> listarTasks(@Valid @RequestParam(required = false) String status,
-            @RequestParam(required = false) String priority, @RequestParam(required = false) Long idProject) {
-        List<TaskResponseDTO> tasks = taskService.listarTasks(status, priority, idProject);
-        List<TaskResponseDTO> listarTodasTasks = taskService.listarTasks();
+            @RequestParam(required = false) String priority, @RequestParam(required = false) Long idProject,
+            @RequestParam(required = false) String match,
+            @RequestParam(defaultValue = "false") boolean includeArchived, WebRequest webRequest) {
+        TaskFilter filtro = TaskFilter.of(status, priority, idProject, match);
 
-        if (tasks.isEmpty()) {
-            return new ResponseEntity<>(listarTodasTasks, HttpStatus.OK);
+        // * nada mudou em tb_task desde a última leitura do cliente: 304 sem consultar as linhas
+        if (webRequest.checkNotModified(taskService.etagTasks())) {
+            return null;
         }
+
+        // * a consulta filtrada só roda com filtro, e a lista completa só quando o filtro não trouxe nada
+        if (!filtro.isEmpty()) {
+            List<TaskResponseDTO> tasks = taskService.listarTasks(filtro, includeArchived);
+            if (!tasks.isEmpty()) {
+                return new ResponseEntity<>(tasks, HttpStatus.OK);
+            }
+        }
+
+        List<TaskResponseDTO> listarTodasTasks = taskService.listarTasks(includeArchived);
         if (listarTodasTasks.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
+        return new ResponseEntity<>(listarTodasTasks, HttpStatus.OK);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Listar tarefas paginadas", description = "Retorna uma página de tarefas ordenadas por ID; use o nextCursor como 'after' para a próxima página")
+    public ResponseEntity<TaskPageResponseDTO> listarPagina(@RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after, WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskService.etagTasks())) {
+            return null;
+        }
+        TaskPageResponseDTO pagina = taskService.listarPagina(limit, after);
+        return new ResponseEntity<>(pagina, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações de tarefas", description = "Server-sent events com criações (created), mudanças de status (status_changed) e remoções (deleted), opcionalmente de um único projeto")
+    public SseEmitter acompanharTasks(@RequestParam(required = false) Long idProject) {
+        return taskEventStream.assinar(idProject);
+    }
+
+    @GetMapping("/overdue")
+    @Operation(summary = "Listar tarefas vencidas", description = "Tarefas não concluídas com entrega anterior a hoje, ordenadas pela data de entrega")
+    public ResponseEntity<List<TaskResponseDTO>> listarVencidas(@RequestParam(required = false) Long idProject) {
+        return new ResponseEntity<>(taskDueService.listarVencidas(idProject), HttpStatus.OK);
+    }
+
+    @GetMapping("/due-soon")
+    @Operation(summary = "Listar tarefas a vencer", description = "Tarefas não concluídas com entrega entre hoje e os próximos N dias (padrão 7)")
+    public ResponseEntity<List<TaskResponseDTO>> listarAVencer(@RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Long idProject) {
+        return new ResponseEntity<>(taskDueService.listarAVencer(days, idProject), HttpStatus.OK);
+    }
+
+    @GetMapping("/due")
+    @Operation(summary = "Listar tarefas por período de entrega", description = "Tarefas não concluídas com entrega entre from e to (inclusive, formato yyyy-MM-dd)")
+    public ResponseEntity<List<TaskResponseDTO>> listarPorEntrega(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long idProject) {
+        return new ResponseEntity<>(taskDueService.listarEntre(from, to, idProject), HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar tarefas por texto", description = "Busca no título e na descrição, com resultados ordenados por relevância; use nextOffset como 'offset' para a próxima página")
+    public ResponseEntity<TaskSearchResponseDTO> buscarTasks(@RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) Integer offset,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskService.etagTasks())) {
+            return null;
+        }
+        return new ResponseEntity<>(taskSearchService.buscar(q, limit, offset), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar tarefas", description = "Envia todas as tarefas em NDJSON (uma por linha), lidas em páginas por id; com Accept-Encoding: gzip a resposta sai comprimida")
+    public ResponseEntity<StreamingResponseBody> exportarTasks(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = NdjsonWriter.aceitaGzip(acceptEncoding);
+        StreamingResponseBody corpo = saida -> taskService.exportarTasks(saida, gzip);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return resposta.body(corpo);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar tarefa", description = "Retorna uma tarefa pelo ID; responde 304 quando o If-None-Match ainda corresponde ao ETag")
+    public ResponseEntity<TaskResponseDTO> buscarTask(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskService.etagTask(id))) {
+            return null;
+        }
+        return new ResponseEntity<>(taskService.buscarTask(id), HttpStatus.OK);
+    }
 
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    @PutMapping("/status")
+    @Operation(summary = "Atualizar status em massa", description = "Aplica um status a todas as tarefas selecionadas por ids e/ou filtros (idProject, currentStatus, priority) em um único UPDATE")
+    public ResponseEntity<TaskStatusBulkResponseDTO> atualizarStatusEmMassa(@Valid @RequestBody TaskStatusBulkRequestDTO request) {
+        return new ResponseEntity<>(taskService.atualizarStatusEmMassa(request), HttpStatus.OK);
     }
 
     @PutMapping("/{id}/status")
-    @Operation(summary = "Atualizar Status", description = "Atualiza o status da tarefa")
-    public ResponseEntity<TaskResponseDTO> atualizarStatus(@Valid @PathVariable Long id, @RequestBody UpdateTaskStatusDTO request) {
-        TaskResponseDTO taskAtualizada = taskService.atualizarStatus(id,request);
+    @Operation(summary = "Atualizar Status", description = "Atualiza o status da tarefa; com If-Match só grava se a tarefa não mudou desde a leitura")
+    public ResponseEntity<TaskResponseDTO> atualizarStatus(@Valid @PathVariable Long id, @RequestBody UpdateTaskStatusDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (taskService.statusWriteBehindAtivo()) {
+            TaskResponseDTO taskAgendada = taskService.agendarStatus(id,request,ifMatch);
+            return new ResponseEntity<>(taskAgendada,HttpStatus.ACCEPTED);
+        }
+        TaskResponseDTO taskAtualizada = taskService.atualizarStatus(id,request,ifMatch);
         return new ResponseEntity<>(taskAtualizada,HttpStatus.OK);
     }
 
@@ -65,4 +201,24 @@ public class TaskController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @GetMapping("/{id}/blocked-by")
+    @Operation(summary = "Listar bloqueios", description = "Tarefas ainda abertas que bloqueiam a tarefa, direta ou indiretamente, das mais próximas para as mais distantes")
+    public ResponseEntity<List<TaskResponseDTO>> listarBloqueadores(@PathVariable Long id) {
+        return new ResponseEntity<>(taskDependencyService.listarBloqueadores(id), HttpStatus.OK);
+    }
+
+    @PutMapping("/{id}/blocked-by/{idBlocker}")
+    @Operation(summary = "Adicionar bloqueio", description = "Registra que a tarefa idBlocker bloqueia a tarefa; recusa dependências entre projetos e as que formariam ciclo")
+    public ResponseEntity<Void> adicionarBloqueio(@PathVariable Long id, @PathVariable Long idBlocker) {
+        taskDependencyService.adicionarBloqueio(id, idBlocker);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping("/{id}/blocked-by/{idBlocker}")
+    @Operation(summary = "Remover bloqueio", description = "Remove a dependência entre as duas tarefas")
+    public ResponseEntity<Void> removerBloqueio(@PathVariable Long id, @PathVariable Long idBlocker) {
+        taskDependencyService.removerBloqueio(id, idBlocker);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
 }
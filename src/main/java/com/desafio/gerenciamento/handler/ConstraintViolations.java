@@ -0,0 +1,30 @@
+package com.desafio.gerenciamento.handler;
+
+import java.sql.SQLException;
+
+public final class ConstraintViolations {
+
+    // * 23505 é o SQLState de unique no H2/PostgreSQL; o driver do SQLite só identifica pela mensagem
+    private static final String SQLSTATE_UNIQUE = "23505";
+    private static final String SQLITE_UNIQUE = "UNIQUE constraint failed";
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql) {
+                if (SQLSTATE_UNIQUE.equals(sql.getSQLState())) {
+                    return true;
+                }
+                if (sql.getMessage() != null && sql.getMessage().contains(SQLITE_UNIQUE)) {
+                    return true;
+                }
+            }
+            if (causa.getCause() == causa) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+package com.desafio.gerenciamento.handler;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -2,6 +2,6 @@ package com.desafio.gerenciamento.handler;
 
 public class ProjectExists extends RuntimeException {
     public ProjectExists(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
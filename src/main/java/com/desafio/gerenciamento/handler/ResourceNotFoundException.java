@@ -2,6 +2,6 @@ package com.desafio.gerenciamento.handler;
 
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
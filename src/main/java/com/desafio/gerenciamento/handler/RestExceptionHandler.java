@@ -4,24 +4,37 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 import com.desafio.gerenciamento.response.ErrorResponseDTO;
 
+// * as exceções de domínio (task/projeto duplicado, id inexistente, parâmetro inválido, sobrecarga) são tráfego
+// * normal: não guardam stack trace, e o caminho sai direto da requisição, sem montar e recortar "uri=..."
 @RestControllerAdvice
 public class RestExceptionHandler {
 
+    private static String caminho(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        return request.getDescription(false).replace("uri=", "");
+    }
+
     // * nome de projeto igual exception
     @ExceptionHandler(ProjectExists.class)
     public ResponseEntity<Object> handleProjectExists(ProjectExists ex, WebRequest request) {
         HttpStatus status = HttpStatus.CONFLICT;
-        String path = request.getDescription(false).replace("uri=", "");
+        String path = caminho(request);
 
         ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
                 status.value(),
@@ -37,7 +50,7 @@ public class RestExceptionHandler {
     @ExceptionHandler(TaskExists.class)
     public ResponseEntity<Object> handleTaskExists(TaskExists ex, WebRequest request) {
         HttpStatus status = HttpStatus.CONFLICT;
-        String path = request.getDescription(false).replace("uri=", "");
+        String path = caminho(request);
 
         ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
                 status.value(),
@@ -55,7 +68,7 @@ public class RestExceptionHandler {
     public ResponseEntity<Object> handleJsonErrors(HttpMessageNotReadableException ex, WebRequest request) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         String detailMessage = "Corpo da requisição inválido. Verifique a sintaxe JSON!";
-        String path = request.getDescription(false).replace("uri=", "");
+        String path = caminho(request);
 
         if (ex.getRootCause() != null) {
             detailMessage = ex.getRootCause().getMessage();
@@ -75,7 +88,7 @@ public class RestExceptionHandler {
     public ResponseEntity<Object> handleValdationErrors(MethodArgumentNotValidException ex, WebRequest request) {
         HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
         String detailMessage = "Erro em um ou mais campos!";
-        String path = request.getDescription(false).replace("uri=", "");
+        String path = caminho(request);
 
         if (ex.getCause() != null) {
             detailMessage = ex.getCause().getMessage();
@@ -97,11 +110,99 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    // * parâmetros de consulta inválidos (cursor, limite, filtros)
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Object> handleBadRequest(BadRequestException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        String path = caminho(request);
+
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                path,
+                null);
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    // * If-Match não corresponde mais à versão atual
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(PreconditionFailedException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        String path = caminho(request);
+
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                path,
+                null);
+
+        return new ResponseEntity<>(errorResponseDTO, status);
+    }
+
+    // * limite de escritas simultâneas do endpoint atingido: falha rápido em vez de entrar na fila do SQLite
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Object> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        String path = caminho(request);
+
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                path,
+                null);
+
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponseDTO);
+    }
+
+    // * duas escritas concorrentes na mesma versão: a segunda perde
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLock(OptimisticLockingFailureException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        String detailMessage = "O registro foi alterado por outra requisição. Leia novamente e tente de novo!";
+        String path = caminho(request);
+
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                detailMessage,
+                path,
+                null);
+
+        return new ResponseEntity<>(errorResponseDTO, status);
+    }
+
+    // * violação que escapou dos serviços (ex.: corrida entre escritas concorrentes)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrity(DataIntegrityViolationException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        String detailMessage = ConstraintViolations.isUniqueViolation(ex)
+                ? "Já existe um registro com esses dados!"
+                : "Os dados violam uma restrição de integridade!";
+        String path = caminho(request);
+
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                detailMessage,
+                path,
+                null);
+
+        return new ResponseEntity<>(errorResponseDTO, status);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Object> handleResourceNotFound(ResourceNotFoundException ex, WebRequest request) {
         HttpStatus status = HttpStatus.NOT_FOUND;
         String detailMessage = "Projeto não encontrado";
-        String path = request.getDescription(false).replace("uri=", "");
+        String path = caminho(request);
         if (ex.getCause() != null) {
             detailMessage = ex.getCause().getMessage();
         }
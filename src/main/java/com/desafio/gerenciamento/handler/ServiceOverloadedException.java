@@ -0,0 +1,7 @@
+package com.desafio.gerenciamento.handler;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -2,6 +2,6 @@ package com.desafio.gerenciamento.handler;
 
 public class TaskExists extends RuntimeException {
     public TaskExists(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,24 @@
+package com.desafio.gerenciamento.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import com.desafio.gerenciamento.config.IdSequencialGenerator;
+
+// * sequence do banco reservando ids em blocos; no SQLite, contador em memória (IdSequencialGenerator)
+@IdGeneratorType(IdSequencialGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface IdSequencial {
+
+    String sequencia();
+
+    // * tabelas que guardam ids da entidade: o contador do SQLite parte do maior deles
+    String[] tabelas();
+
+    int bloco() default 50;
+}
@@ -9,7 +9,7 @@ import java.util.Set;
 @Table(name = "tb_project")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdSequencial(sequencia = "tb_project_seq", tabelas = "tb_project")
     private Long id;
 
     @Column(length = 200,nullable = false,unique = true)
@@ -27,6 +27,9 @@ public class Project {
     @OneToMany(mappedBy = "project")
     private Set<Task> tasks = new HashSet<>();
 
+    @Version
+    private Long version;
+
     public Project() {}
 
     public Project(String name, String description, LocalDate startDate, LocalDate endDate) {
@@ -79,4 +82,8 @@ public class Project {
     public void setId(Long id) {
         this.id = id;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -6,19 +6,29 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "tb_task")
+@Table(name = "tb_task", indexes = {
+        @Index(name = "idx_task_project_status_priority_due", columnList = "project_id, status, priority, due_date"),
+        // * permitem ao SQLite resolver filtros com OR por união de índices
+        @Index(name = "idx_task_status", columnList = "status"),
+        @Index(name = "idx_task_priority", columnList = "priority"),
+        // * consultas de vencimento: faixa em due_date e status conferido no próprio índice
+        @Index(name = "idx_task_due_status", columnList = "due_date, status"),
+        @Index(name = "idx_task_project_due", columnList = "project_id, due_date")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // * IDENTITY desliga o batch de inserts do Hibernate; o id sai antes do INSERT, do sequence ou do contador do SQLite
+    @IdSequencial(sequencia = "tb_task_seq", tabelas = { "tb_task", "tb_task_archive" })
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -36,10 +46,14 @@ public class Task {
     @Column(nullable = false)
     private LocalDate dueDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
+    // * versão para lock otimista e para o ETag da task
+    @Version
+    private Long version;
+
     public Task() {
     }
 
@@ -109,4 +123,8 @@ public class Task {
     public void setProject(Project project) {
         this.project = project;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,91 @@
+package com.desafio.gerenciamento.model;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+// * tasks DONE antigas movidas de tb_task pelo TaskArchiver; só leitura, mesmo id e mesmos atributos da Task
+@Entity
+@Immutable
+@Table(name = "tb_task_archive", indexes = {
+        @Index(name = "idx_task_archive_project_status_priority", columnList = "project_id, status, priority")
+})
+public class TaskArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id")
+    private Project project;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDate archivedOn;
+
+    protected TaskArchive() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDate getArchivedOn() {
+        return archivedOn;
+    }
+}
@@ -0,0 +1,28 @@
+package com.desafio.gerenciamento.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// * a task idBlocker bloqueia a task idTask; só os ids, o grafo em memória (TaskDependencyGraph) guarda o resto
+@Entity
+@Table(name = "tb_task_dependency", indexes = {
+        @Index(name = "idx_task_dependency_blocked_by", columnList = "blocked_by_id")
+})
+public class TaskDependency {
+
+    @EmbeddedId
+    private TaskDependencyId id;
+
+    protected TaskDependency() {
+    }
+
+    public TaskDependency(Long idTask, Long idBlocker) {
+        this.id = new TaskDependencyId(idTask, idBlocker);
+    }
+
+    public TaskDependencyId getId() {
+        return id;
+    }
+}
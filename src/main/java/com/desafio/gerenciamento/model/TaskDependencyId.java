@@ -0,0 +1,45 @@
+package com.desafio.gerenciamento.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class TaskDependencyId implements Serializable {
+
+    @Column(name = "task_id", nullable = false)
+    private Long idTask;
+
+    @Column(name = "blocked_by_id", nullable = false)
+    private Long idBlocker;
+
+    protected TaskDependencyId() {
+    }
+
+    public TaskDependencyId(Long idTask, Long idBlocker) {
+        this.idTask = idTask;
+        this.idBlocker = idBlocker;
+    }
+
+    public Long getIdTask() {
+        return idTask;
+    }
+
+    public Long getIdBlocker() {
+        return idBlocker;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TaskDependencyId outro
+                && Objects.equals(idTask, outro.idTask)
+                && Objects.equals(idBlocker, outro.idBlocker);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idTask, idBlocker);
+    }
+}
@@ -1,8 +1,33 @@
 package com.desafio.gerenciamento.repository;
 
 import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface ProjectRepository extends JpaRepository<Project,Long> {
     Project findByName(String name);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+
+    @Query("SELECT new com.desafio.gerenciamento.response.ProjectResponseDTO(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate) " +
+            "FROM Project p ORDER BY p.id")
+    List<ProjectResponseDTO> findAllProjected();
+
+    // * paginação keyset para a exportação
+    @Query("SELECT new com.desafio.gerenciamento.response.ProjectResponseDTO(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate) " +
+            "FROM Project p WHERE p.id > :after ORDER BY p.id")
+    List<ProjectResponseDTO> findPageProjected(@Param("after") Long after, Limit limit);
 }
@@ -0,0 +1,12 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.model.TaskArchive;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+public interface TaskArchiveProjectionRepository {
+    List<TaskResponseDTO> findProjected(Specification<TaskArchive> spec);
+}
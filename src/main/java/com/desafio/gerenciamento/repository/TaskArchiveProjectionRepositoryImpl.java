@@ -0,0 +1,22 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.model.TaskArchive;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class TaskArchiveProjectionRepositoryImpl implements TaskArchiveProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponseDTO> findProjected(Specification<TaskArchive> spec) {
+        return TaskProjectionRepositoryImpl.consulta(entityManager, TaskArchive.class, spec).getResultList();
+    }
+}
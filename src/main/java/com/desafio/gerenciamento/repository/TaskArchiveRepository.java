@@ -0,0 +1,46 @@
+package com.desafio.gerenciamento.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.desafio.gerenciamento.model.TaskArchive;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long>, TaskArchiveProjectionRepository {
+
+    String PROJECAO = "SELECT new com.desafio.gerenciamento.response.TaskResponseDTO(" +
+            "a.id, a.title, a.description, a.status, a.priority, a.dueDate, a.project.id) FROM TaskArchive a ";
+
+    @Query(PROJECAO + "ORDER BY a.id")
+    List<TaskResponseDTO> findAllProjected();
+
+    @Query(PROJECAO + "WHERE a.id = :id")
+    Optional<TaskResponseDTO> findProjectedById(@Param("id") Long id);
+
+    @Query("SELECT a.version FROM TaskArchive a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // * linhas [idProject, status, priority, total]
+    @Query("SELECT a.project.id, a.status, a.priority, COUNT(a) FROM TaskArchive a " +
+            "GROUP BY a.project.id, a.status, a.priority")
+    List<Object[]> countByProjectStatusPriority();
+
+    @Query("SELECT a.project.id, a.status, a.priority, COUNT(a) FROM TaskArchive a " +
+            "WHERE a.project.id = :idProject GROUP BY a.project.id, a.status, a.priority")
+    List<Object[]> countByProjectStatusPriority(@Param("idProject") Long idProject);
+
+    // * copia as linhas como estão, sem passar por entidades; o DELETE em tb_task vem na mesma transação
+    @Modifying
+    @Query(value = "INSERT INTO tb_task_archive " +
+            "(id, title, description, status, priority, due_date, project_id, version, archived_on) " +
+            "SELECT id, title, description, status, priority, due_date, project_id, version, :archivedOn " +
+            "FROM tb_task WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedOn") LocalDate archivedOn);
+}
@@ -0,0 +1,35 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.desafio.gerenciamento.model.TaskDependency;
+import com.desafio.gerenciamento.model.TaskDependencyId;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, TaskDependencyId> {
+
+    // * linhas [idTask, idBlocker]
+    @Query("SELECT d.id.idTask, d.id.idBlocker FROM TaskDependency d")
+    List<Object[]> findAllPairs();
+
+    // * as tasks que aparecem em alguma dependência, dos dois lados
+    @Query(TaskRepository.PROJECAO + "WHERE t.id IN (SELECT d.id.idTask FROM TaskDependency d) " +
+            "OR t.id IN (SELECT d.id.idBlocker FROM TaskDependency d)")
+    List<TaskResponseDTO> findLinkedTasks();
+
+    // * destino entre as bloqueadoras diretas e transitivas de origem; o grafo gravado não tem ciclos, então a recursão termina
+    @Query(value = "WITH RECURSIVE bloqueadoras(id) AS (SELECT CAST(:origem AS BIGINT) " +
+            "UNION SELECT d.blocked_by_id FROM tb_task_dependency d JOIN bloqueadoras b ON d.task_id = b.id) " +
+            "SELECT COUNT(*) FROM bloqueadoras WHERE id = :destino", nativeQuery = true)
+    long countReachable(@Param("origem") Long origem, @Param("destino") Long destino);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.id.idTask IN :ids OR d.id.idBlocker IN :ids")
+    int deleteByTaskIds(@Param("ids") Collection<Long> ids);
+}
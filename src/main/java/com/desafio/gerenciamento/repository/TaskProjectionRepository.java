@@ -0,0 +1,16 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+public interface TaskProjectionRepository {
+    List<TaskResponseDTO> findProjected(Specification<Task> spec);
+
+    List<TaskResponseDTO> findProjected(Specification<Task> spec, int limit);
+
+    List<TaskResponseDTO> findProjected(Specification<Task> spec, int offset, int limit);
+}
@@ -0,0 +1,62 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+// * aplica as mesmas Specifications de Task, mas selecionando só as colunas do TaskResponseDTO
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponseDTO> findProjected(Specification<Task> spec) {
+        return consulta(spec).getResultList();
+    }
+
+    @Override
+    public List<TaskResponseDTO> findProjected(Specification<Task> spec, int limit) {
+        return findProjected(spec, 0, limit);
+    }
+
+    @Override
+    public List<TaskResponseDTO> findProjected(Specification<Task> spec, int offset, int limit) {
+        return consulta(spec).setFirstResult(offset).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<TaskResponseDTO> consulta(Specification<Task> spec) {
+        return consulta(entityManager, Task.class, spec);
+    }
+
+    // * também atende TaskArchive, que tem os mesmos atributos
+    static <T> TypedQuery<TaskResponseDTO> consulta(EntityManager entityManager, Class<T> entidade,
+            Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponseDTO> query = cb.createQuery(TaskResponseDTO.class);
+        Root<T> root = query.from(entidade);
+
+        query.select(cb.construct(TaskResponseDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("dueDate"),
+                root.get("project").get("id")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query);
+    }
+}
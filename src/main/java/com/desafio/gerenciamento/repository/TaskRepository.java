@@ -1,22 +1,108 @@
 package com.desafio.gerenciamento.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.desafio.gerenciamento.model.Status;
 import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.persistence.LockModeType;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskProjectionRepository {
+
+    // * leituras projetadas direto no DTO: sem entidades gerenciadas e sem carregar o projeto
+    String PROJECAO = "SELECT new com.desafio.gerenciamento.response.TaskResponseDTO(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.project.id) FROM Task t ";
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
     Task findByTitle(String title);
 
-    @Query("SELECT t FROM Task t " +
-            "WHERE UPPER(t.status) = UPPER(:status) " +
-            "OR UPPER(t.priority) = UPPER(:priority) " +
-            "OR t.project.id = :idproject ")
-    List<Task> findByStatusOrPriorityOrIdProject(
-            @Param("status") String status,
-            @Param("priority") String priority,
-            @Param("idproject") Long idProject);
+    @Query("SELECT t.title FROM Task t WHERE t.title IN :titles")
+    Set<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    // * linhas [idProject, status, priority, total]
+    @Query("SELECT t.project.id, t.status, t.priority, COUNT(t) FROM Task t " +
+            "GROUP BY t.project.id, t.status, t.priority")
+    List<Object[]> countByProjectStatusPriority();
+
+    @Query("SELECT t.project.id, t.status, t.priority, COUNT(t) FROM Task t " +
+            "WHERE t.project.id = :idProject GROUP BY t.project.id, t.status, t.priority")
+    List<Object[]> countByProjectStatusPriority(@Param("idProject") Long idProject);
+
+    @Query(PROJECAO + "ORDER BY t.id")
+    List<TaskResponseDTO> findAllProjected();
+
+    @Query(PROJECAO + "WHERE t.id IN :ids")
+    List<TaskResponseDTO> findProjectedByIds(@Param("ids") Collection<Long> ids);
+
+    // * busca no índice FTS5 (migração db/migration/sqlite/V2); o título pesa mais que a descrição no bm25
+    @Query(value = "SELECT rowid FROM tb_task_fts WHERE tb_task_fts MATCH :q " +
+            "ORDER BY bm25(tb_task_fts, 10.0, 1.0), rowid LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Number> searchIds(@Param("q") String q, @Param("limit") int limit, @Param("offset") int offset);
+
+    // * faixas de entrega das tasks em aberto: resolvidas pelos índices (due_date, status) e (project_id, due_date)
+    @Query(PROJECAO + "WHERE t.dueDate < :date AND t.status <> com.desafio.gerenciamento.model.Status.DONE " +
+            "ORDER BY t.dueDate, t.id")
+    List<TaskResponseDTO> findOpenDueBefore(@Param("date") LocalDate date);
+
+    @Query(PROJECAO + "WHERE t.project.id = :idProject AND t.dueDate < :date " +
+            "AND t.status <> com.desafio.gerenciamento.model.Status.DONE ORDER BY t.dueDate, t.id")
+    List<TaskResponseDTO> findOpenDueBeforeInProject(@Param("idProject") Long idProject, @Param("date") LocalDate date);
+
+    @Query(PROJECAO + "WHERE t.dueDate BETWEEN :from AND :to " +
+            "AND t.status <> com.desafio.gerenciamento.model.Status.DONE ORDER BY t.dueDate, t.id")
+    List<TaskResponseDTO> findOpenDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(PROJECAO + "WHERE t.project.id = :idProject AND t.dueDate BETWEEN :from AND :to " +
+            "AND t.status <> com.desafio.gerenciamento.model.Status.DONE ORDER BY t.dueDate, t.id")
+    List<TaskResponseDTO> findOpenDueBetweenInProject(@Param("idProject") Long idProject,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(PROJECAO + "WHERE t.id = :id")
+    Optional<TaskResponseDTO> findProjectedById(@Param("id") Long id);
+
+    // * paginação keyset: usa a chave primária, sem OFFSET
+    @Query(PROJECAO + "WHERE t.id > :after ORDER BY t.id")
+    List<TaskResponseDTO> findPageProjected(@Param("after") Long after, Limit limit);
+
+    // * UPDATE em massa não passa pela entidade, então a versão é incrementada aqui
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    // * troca em massa: descarrega o contexto antes e o limpa depois, para nenhuma entidade ficar com o status antigo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.status <> :status")
+    int updateStatusIfChanged(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    // * candidatas ao arquivo pelo índice (due_date, status); travadas até o fim da transação onde há FOR UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.dueDate < :date " +
+            "AND t.status = com.desafio.gerenciamento.model.Status.DONE ORDER BY t.id")
+    List<Long> findArchivableIds(@Param("date") LocalDate date, Limit limit);
+
+    // * travadas até o fim da transação onde há FOR UPDATE, sempre na ordem do id para duas travas opostas não se esperarem
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,76 @@
+package com.desafio.gerenciamento.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.request.TaskFilter;
+import com.desafio.gerenciamento.request.TaskStatusBulkRequestDTO;
+
+import jakarta.persistence.criteria.Predicate;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    // * só entram os filtros informados, comparando as colunas diretamente para que os índices possam ser usados
+    public static <T> Specification<T> matching(TaskFilter filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>(3);
+            if (filtro.idProject() != null) {
+                predicados.add(cb.equal(root.get("project").get("id"), filtro.idProject()));
+            }
+            if (filtro.status() != null) {
+                predicados.add(cb.equal(root.get("status"), filtro.status()));
+            }
+            if (filtro.priority() != null) {
+                predicados.add(cb.equal(root.get("priority"), filtro.priority()));
+            }
+
+            if (predicados.isEmpty()) {
+                return cb.conjunction();
+            }
+            Predicate[] array = predicados.toArray(new Predicate[0]);
+            return filtro.matchAll() ? cb.and(array) : cb.or(array);
+        };
+    }
+
+    // * seleção da troca de status em massa: tudo com AND e só o que ainda não está no status de destino
+    public static Specification<Task> transicao(TaskStatusBulkRequestDTO dto) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>(5);
+            if (dto.getIds() != null && !dto.getIds().isEmpty()) {
+                predicados.add(root.get("id").in(dto.getIds()));
+            }
+            if (dto.getIdProject() != null) {
+                predicados.add(cb.equal(root.get("project").get("id"), dto.getIdProject()));
+            }
+            if (dto.getCurrentStatus() != null) {
+                predicados.add(cb.equal(root.get("status"), dto.getCurrentStatus()));
+            }
+            if (dto.getPriority() != null) {
+                predicados.add(cb.equal(root.get("priority"), dto.getPriority()));
+            }
+            predicados.add(cb.notEqual(root.get("status"), dto.getStatus()));
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+
+    // * busca sem FTS5: cada termo precisa aparecer no título ou na descrição, sem diferenciar maiúsculas
+    public static Specification<Task> contemTermos(List<String> termos) {
+        return (root, query, cb) -> {
+            Predicate[] predicados = new Predicate[termos.size()];
+            for (int i = 0; i < termos.size(); i++) {
+                String padrao = "%" + termos.get(i).toLowerCase()
+                        .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                predicados[i] = cb.or(
+                        cb.like(cb.lower(root.get("title")), padrao, '\\'),
+                        cb.like(cb.lower(root.get("description")), padrao, '\\'));
+            }
+            return cb.and(predicados);
+        };
+    }
+}
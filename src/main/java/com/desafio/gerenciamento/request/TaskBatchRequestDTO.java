@@ -0,0 +1,24 @@
+package com.desafio.gerenciamento.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+public class TaskBatchRequestDTO {
+
+    @NotEmpty(message = "A lista de tasks não pode ser vazia")
+    private List<@Valid TaskRequestDTO> tasks;
+
+    public TaskBatchRequestDTO() {
+
+    }
+
+    public List<TaskRequestDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskRequestDTO> tasks) {
+        this.tasks = tasks;
+    }
+}
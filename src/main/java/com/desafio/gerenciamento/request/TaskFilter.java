@@ -0,0 +1,50 @@
+package com.desafio.gerenciamento.request;
+
+import java.util.Locale;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+
+// * filtros de listagem já convertidos para os enums, para que a consulta compare a coluna sem funções
+public record TaskFilter(
+    Status status,
+    Priority priority,
+    Long idProject,
+    boolean matchAll
+)
+{
+    public static TaskFilter of(String status, String priority, Long idProject, String match) {
+        return new TaskFilter(
+                parse(Status.class, status, "status"),
+                parse(Priority.class, priority, "priority"),
+                idProject,
+                parseMatch(match));
+    }
+
+    public boolean isEmpty() {
+        return status == null && priority == null && idProject == null;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> tipo, String valor, String campo) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(tipo, valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Valor inválido para " + campo + ": " + valor);
+        }
+    }
+
+    // * "any" (padrão) mantém o comportamento OR original; "all" combina os filtros com AND
+    private static boolean parseMatch(String match) {
+        if (match == null || match.isBlank() || match.equalsIgnoreCase("any")) {
+            return false;
+        }
+        if (match.equalsIgnoreCase("all")) {
+            return true;
+        }
+        throw new BadRequestException("Valor inválido para match: " + match);
+    }
+}
@@ -0,0 +1,68 @@
+package com.desafio.gerenciamento.request;
+
+import java.util.List;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+
+import jakarta.validation.constraints.NotNull;
+
+public class TaskStatusBulkRequestDTO {
+
+    @NotNull(message = "O novo status é obrigatório")
+    private Status status;
+
+    // * seleção: ids e/ou filtros, combinados com AND
+    private List<Long> ids;
+    private Long idProject;
+    private Status currentStatus;
+    private Priority priority;
+
+    public TaskStatusBulkRequestDTO() {
+
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getIdProject() {
+        return idProject;
+    }
+
+    public void setIdProject(Long idProject) {
+        this.idProject = idProject;
+    }
+
+    public Status getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(Status currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public boolean semSelecao() {
+        return (ids == null || ids.isEmpty()) && idProject == null && currentStatus == null && priority == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.desafio.gerenciamento.response;
+
+public record ProjectCacheStatsDTO(
+    long hitCount,
+    long missCount,
+    long evictionCount,
+    double hitRate,
+    long size
+)
+{
+}
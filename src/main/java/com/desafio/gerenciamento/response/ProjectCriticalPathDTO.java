@@ -0,0 +1,15 @@
+package com.desafio.gerenciamento.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ProjectCriticalPathDTO(
+    Long idProject,
+    int length,
+    LocalDate startDueDate,
+    LocalDate endDueDate,
+    List<TaskResponseDTO> tasks,
+    List<Long> dueDateConflicts
+)
+{
+}
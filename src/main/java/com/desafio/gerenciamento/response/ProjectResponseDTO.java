@@ -18,6 +18,14 @@ public class ProjectResponseDTO {
 
     public ProjectResponseDTO() {}
 
+    public ProjectResponseDTO(Long id, String name, String description, LocalDate startDate, LocalDate endDate) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
 
     public Long getId() {
         return id;
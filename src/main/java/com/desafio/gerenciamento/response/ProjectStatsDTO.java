@@ -0,0 +1,14 @@
+package com.desafio.gerenciamento.response;
+
+public record ProjectStatsDTO(
+    Long idProject,
+    long total,
+    long todo,
+    long doing,
+    long done,
+    long low,
+    long medium,
+    long high
+)
+{
+}
@@ -0,0 +1,17 @@
+package com.desafio.gerenciamento.response;
+
+// * index é a posição do item na lista enviada
+public record TaskBatchItemResultDTO(
+    int index,
+    String title,
+    Result result,
+    Long idTask,
+    String message
+)
+{
+    public enum Result {
+        CREATED,
+        DUPLICATE_TITLE,
+        PROJECT_NOT_FOUND
+    }
+}
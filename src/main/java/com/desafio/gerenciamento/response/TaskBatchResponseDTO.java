@@ -0,0 +1,11 @@
+package com.desafio.gerenciamento.response;
+
+import java.util.List;
+
+public record TaskBatchResponseDTO(
+    int created,
+    int failed,
+    List<TaskBatchItemResultDTO> results
+)
+{
+}
@@ -0,0 +1,11 @@
+package com.desafio.gerenciamento.response;
+
+import com.desafio.gerenciamento.model.Status;
+
+public record TaskEventDTO(
+    String type,
+    Status previousStatus,
+    TaskResponseDTO task
+)
+{
+}
@@ -0,0 +1,12 @@
+package com.desafio.gerenciamento.response;
+
+import java.util.List;
+
+// * nextCursor nulo indica que não há mais páginas
+public record TaskPageResponseDTO(
+    List<TaskResponseDTO> items,
+    String nextCursor,
+    int limit
+)
+{
+}
@@ -20,6 +20,18 @@ public class TaskResponseDTO {
 
     }
 
+    // * usado pelas consultas de projeção (SELECT new ...), que não carregam a entidade
+    public TaskResponseDTO(Long idTask, String title, String description, Status status, Priority priority,
+            LocalDate dueDate, Long idProject) {
+        this.idTask = idTask;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.idProject = idProject;
+    }
+
     public Long getIdTask() {
         return idTask;
     }
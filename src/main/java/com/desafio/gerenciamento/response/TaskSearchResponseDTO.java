@@ -0,0 +1,12 @@
+package com.desafio.gerenciamento.response;
+
+import java.util.List;
+
+public record TaskSearchResponseDTO(
+    List<TaskResponseDTO> items,
+    int offset,
+    int limit,
+    Integer nextOffset
+)
+{
+}
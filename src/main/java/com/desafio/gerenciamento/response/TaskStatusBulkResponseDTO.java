@@ -0,0 +1,13 @@
+package com.desafio.gerenciamento.response;
+
+import java.util.Map;
+
+import com.desafio.gerenciamento.model.Status;
+
+public record TaskStatusBulkResponseDTO(
+    Status status,
+    int updated,
+    Map<Status, Integer> byPreviousStatus
+)
+{
+}
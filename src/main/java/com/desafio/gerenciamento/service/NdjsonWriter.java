@@ -0,0 +1,80 @@
+package com.desafio.gerenciamento.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// * exportação NDJSON com memória fixa: um objeto JSON por linha, sem montar lista nem documento
+@Component
+public class NdjsonWriter {
+
+    // * a cada bloco os bytes seguem para o cliente; se ele não consome, a escrita bloqueia e a próxima página espera
+    static final int LINHAS_POR_FLUSH = 500;
+    static final int LINHAS_POR_PAGINA = 1000;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length == 1 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // * keyset pela chave: a página seguinte só é lida depois que a anterior foi escrita, cada uma na transação
+    // * curta que `pagina` abrir, então nenhuma leitura fica aberta enquanto o cliente consome
+    static <T> Stream<T> emPaginas(LongFunction<List<T>> pagina, ToLongFunction<T> chave) {
+        return Stream.iterate(pagina.apply(0L), lista -> !lista.isEmpty(),
+                lista -> lista.size() < LINHAS_POR_PAGINA ? List.of()
+                        : pagina.apply(chave.applyAsLong(lista.get(lista.size() - 1))))
+                .flatMap(List::stream);
+    }
+
+    public long escrever(Stream<?> linhas, OutputStream destino, boolean gzip) throws IOException {
+        OutputStream saida = gzip
+                ? new GZIPOutputStream(destino, TAMANHO_BUFFER, true)
+                : new BufferedOutputStream(destino, TAMANHO_BUFFER);
+
+        long total = 0;
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.setRootValueSeparator(null);
+            Iterator<?> it = linhas.iterator();
+            while (it.hasNext()) {
+                writer.writeValue(gerador, it.next());
+                gerador.writeRaw('\n');
+                if (++total % LINHAS_POR_FLUSH == 0) {
+                    gerador.flush();
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,149 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.annotation.PostConstruct;
+
+// * conjunto em memória das tasks vencidas e não concluídas, ordenado por data de entrega:
+// * carregado uma vez por tenant, acrescido a cada virada de dia só com a fatia que venceu e ajustado pelas escritas.
+// * Com app.memory-state.enabled=false fica vazio e o TaskDueService consulta o banco
+@Component
+public class OverdueTasks {
+
+    private record Chave(LocalDate dueDate, Long id) {
+    }
+
+    private static final Comparator<Chave> ORDEM = Comparator.comparing(Chave::dueDate).thenComparing(Chave::id);
+
+    private final class Conjunto {
+        final ConcurrentSkipListMap<Chave, TaskResponseDTO> todas = new ConcurrentSkipListMap<>(ORDEM);
+        final Map<Long, ConcurrentSkipListMap<Chave, TaskResponseDTO>> porProjeto = new ConcurrentHashMap<>();
+        final Map<Long, Chave> chaves = new ConcurrentHashMap<>();
+
+        // * vence quem tem dueDate anterior ao corte
+        volatile LocalDate corte;
+
+        Conjunto(LocalDate hoje) {
+            taskRepository.findOpenDueBefore(hoje).forEach(this::adicionar);
+            corte = hoje;
+        }
+
+        synchronized void atualizar(LocalDate hoje) {
+            if (!hoje.isAfter(corte)) {
+                return;
+            }
+            taskRepository.findOpenDueBetween(corte, hoje.minusDays(1)).forEach(this::adicionar);
+            corte = hoje;
+        }
+
+        boolean vencida(TaskResponseDTO task) {
+            return task.getStatus() != Status.DONE && task.getDueDate() != null && task.getDueDate().isBefore(corte);
+        }
+
+        synchronized void adicionar(TaskResponseDTO task) {
+            remover(task.getIdTask());
+            Chave chave = new Chave(task.getDueDate(), task.getIdTask());
+            chaves.put(task.getIdTask(), chave);
+            todas.put(chave, task);
+            if (task.getIdProject() != null) {
+                porProjeto.computeIfAbsent(task.getIdProject(), id -> new ConcurrentSkipListMap<>(ORDEM))
+                        .put(chave, task);
+            }
+        }
+
+        synchronized void remover(Long id) {
+            Chave chave = chaves.remove(id);
+            if (chave == null) {
+                return;
+            }
+            TaskResponseDTO task = todas.remove(chave);
+            if (task != null && task.getIdProject() != null) {
+                Map<Chave, TaskResponseDTO> doProjeto = porProjeto.get(task.getIdProject());
+                if (doProjeto != null) {
+                    doProjeto.remove(chave);
+                }
+            }
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final ConcurrentHashMap<String, Conjunto> porTenant = new ConcurrentHashMap<>();
+    private final boolean habilitado;
+
+    public OverdueTasks(TaskRepository taskRepository,
+            @Value("${app.memory-state.enabled:true}") boolean habilitado) {
+        this.taskRepository = taskRepository;
+        this.habilitado = habilitado;
+    }
+
+    public boolean habilitado() {
+        return habilitado;
+    }
+
+    @PostConstruct
+    void carregar() {
+        if (habilitado) {
+            doTenant();
+        }
+    }
+
+    @EventListener
+    public void aoAbrirTenant(TenantOpenedEvent evento) {
+        if (habilitado) {
+            TenantContext.executar(evento.tenant(), this::doTenant);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.overdue.refresh-interval:PT1M}")
+    public void atualizar() {
+        atualizar(LocalDate.now());
+    }
+
+    void atualizar(LocalDate hoje) {
+        porTenant.forEach((tenant, conjunto) -> TenantContext.executar(tenant, () -> conjunto.atualizar(hoje)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterar(TaskChangedEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        Conjunto conjunto = doTenant();
+        TaskResponseDTO task = evento.task();
+        if (evento.tipo() != TaskChangedEvent.Tipo.DELETED && conjunto.vencida(task)) {
+            conjunto.adicionar(task);
+        } else {
+            conjunto.remover(task.getIdTask());
+        }
+    }
+
+    public List<TaskResponseDTO> listar(Long idProject) {
+        Conjunto conjunto = doTenant();
+        Map<Chave, TaskResponseDTO> origem = idProject == null ? conjunto.todas : conjunto.porProjeto.get(idProject);
+        return origem == null ? List.of() : new ArrayList<>(origem.values());
+    }
+
+    public int tamanho() {
+        return doTenant().chaves.size();
+    }
+
+    private Conjunto doTenant() {
+        return porTenant.computeIfAbsent(TenantContext.atual(), tenant -> new Conjunto(LocalDate.now()));
+    }
+}
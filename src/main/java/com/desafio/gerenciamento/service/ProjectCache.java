@@ -0,0 +1,69 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.response.ProjectCacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// * cache de leitura para as checagens de existência de projeto feitas a cada escrita de task
+@Component
+public class ProjectCache implements MeterBinder {
+
+    // * cada tenant tem a própria sequence, então o mesmo id existe em bancos diferentes
+    private record Chave(String tenant, Long id) {
+    }
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Chave, Boolean> porId;
+
+    public ProjectCache(ProjectRepository projectRepository,
+            @Value("${app.cache.projects.max-size:10000}") long tamanhoMaximo,
+            @Value("${app.cache.projects.ttl:10m}") Duration ttl) {
+        this.projectRepository = projectRepository;
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // * só o "existe" fica guardado: projeto não é removido, então ele não envelhece. Um "não existe" voltaria
+    // * errado depois que o projeto fosse criado por outra transação ou, sem estado em memória, por outra instância
+    public boolean existsById(Long id) {
+        Chave chave = new Chave(TenantContext.atual(), id);
+        if (porId.getIfPresent(chave) != null) {
+            return true;
+        }
+        boolean existe = projectRepository.existsById(id);
+        if (existe) {
+            porId.put(chave, Boolean.TRUE);
+        }
+        return existe;
+    }
+
+    public ProjectCacheStatsDTO stats() {
+        CacheStats stats = porId.stats();
+        return new ProjectCacheStatsDTO(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                porId.estimatedSize());
+    }
+
+    // * publica acertos, falhas e remoções como cache.gets / cache.evictions
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, "projects.by-id");
+    }
+}
@@ -1,46 +1,107 @@
 package com.desafio.gerenciamento.service;
 
+import com.desafio.gerenciamento.handler.ConstraintViolations;
 import com.desafio.gerenciamento.handler.ProjectExists;
 import com.desafio.gerenciamento.handler.ResourceNotFoundException;
 import com.desafio.gerenciamento.mapper.ProjectMapper;
 import com.desafio.gerenciamento.model.Project;
 import com.desafio.gerenciamento.repository.ProjectRepository;
 import com.desafio.gerenciamento.request.ProjectRequestDTO;
+import com.desafio.gerenciamento.response.ProjectCacheStatsDTO;
 import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.ProjectStatsDTO;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectCache projectCache;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final NdjsonWriter ndjsonWriter;
+    private final TableVersions tableVersions;
+    private final TransactionTemplate leitura;
 
-    public ProjectService(ProjectRepository projectRepository,ProjectMapper projectMapper) {
+    public ProjectService(ProjectRepository projectRepository,ProjectMapper projectMapper,ProjectCache projectCache,
+            ProjectTaskCounters projectTaskCounters, NdjsonWriter ndjsonWriter, TableVersions tableVersions,
+            PlatformTransactionManager transactionManager) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
+        this.projectCache = projectCache;
+        this.projectTaskCounters = projectTaskCounters;
+        this.ndjsonWriter = ndjsonWriter;
+        this.tableVersions = tableVersions;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    public String etagProjetos() {
+        return tableVersions.etag(TableVersions.Tabela.PROJECTS);
     }
 
     @Transactional
     public ProjectResponseDTO criarProjeto(ProjectRequestDTO dto) {
-        if(projectRepository.findByName(dto.getName()) != null) {
-            throw new ProjectExists("Projeto com o nome " + dto.getName() + " já existe!");
-        }
         Project novoProjeto = projectMapper.toEntity(dto);
-        Project projetoSalvo = projectRepository.save(novoProjeto);
+        Project projetoSalvo;
+        try {
+            projetoSalvo = projectRepository.saveAndFlush(novoProjeto);
+        } catch (DataAccessException e) {
+            // * no SQLite o unique vem do lote de inserts como JpaSystemException, não como DataIntegrityViolation
+            if (ConstraintViolations.isUniqueViolation(e)) {
+                throw new ProjectExists("Projeto com o nome " + dto.getName() + " já existe!");
+            }
+            throw e;
+        }
+        projectTaskCounters.projetoCriado(projetoSalvo.getId());
+        tableVersions.alterada(TableVersions.Tabela.PROJECTS);
 
         return projectMapper.toResponse(projetoSalvo);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> listarProjetos() {
-        List<Project> pegarTodos = projectRepository.findAll();
+        List<ProjectResponseDTO> pegarTodos = projectRepository.findAllProjected();
         if(pegarTodos.isEmpty()) {
             throw new ResourceNotFoundException("Nenhum projeto encontrado!");
         }
-        return projectMapper.toResponseList(pegarTodos);
+        return pegarTodos;
+    }
+
+    // * como a exportação de tasks: páginas por id, cada uma na sua transação de leitura
+    public long exportarProjetos(OutputStream destino, boolean gzip) throws IOException {
+        Stream<ProjectResponseDTO> projetos = NdjsonWriter.emPaginas(depoisDe -> leitura.execute(
+                status -> projectRepository.findPageProjected(depoisDe, Limit.of(NdjsonWriter.LINHAS_POR_PAGINA))),
+                ProjectResponseDTO::getId);
+        return ndjsonWriter.escrever(projetos, destino, gzip);
+    }
+
+    public ProjectStatsDTO estatisticas(Long id) {
+        ProjectStatsDTO stats = projectTaskCounters.doProjeto(id);
+        if (stats == null) {
+            throw new ResourceNotFoundException("Projeto com ID " + id + " não encontrado");
+        }
+        return stats;
+    }
+
+    public List<ProjectStatsDTO> estatisticas() {
+        return projectTaskCounters.todos();
+    }
+
+    public ProjectCacheStatsDTO estatisticasCache() {
+        return projectCache.stats();
     }
 }
 
@@ -0,0 +1,173 @@
+package com.desafio.gerenciamento.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.ProjectStatsDTO;
+
+import jakarta.annotation.PostConstruct;
+
+// * contagens de tasks por projeto mantidas a cada escrita: ler as estatísticas não varre tb_task
+// * (aplicadas após o commit, então um rollback não deixa a contagem adiantada); um mapa por tenant.
+// * Com app.memory-state.enabled=false (várias instâncias no mesmo banco) cada leitura faz o GROUP BY
+@Component
+public class ProjectTaskCounters {
+
+    // * posições no array: os status primeiro, depois as prioridades
+    private static final int INICIO_PRIORIDADE = Status.values().length;
+    private static final int TAMANHO = INICIO_PRIORIDADE + Priority.values().length;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, AtomicLongArray>> porTenant =
+            new ConcurrentHashMap<>();
+    private final boolean habilitado;
+
+    public ProjectTaskCounters(ProjectRepository projectRepository, TaskRepository taskRepository,
+            TaskArchiveRepository taskArchiveRepository,
+            @Value("${app.memory-state.enabled:true}") boolean habilitado) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.habilitado = habilitado;
+    }
+
+    // * reconstrói a partir do banco uma única vez por tenant (o padrão na subida, os demais na primeira requisição);
+    // * arquivar não muda as contagens, então o arquivo entra
+    @PostConstruct
+    void carregar() {
+        if (habilitado) {
+            doTenant();
+        }
+    }
+
+    @EventListener
+    public void aoAbrirTenant(TenantOpenedEvent evento) {
+        if (habilitado) {
+            TenantContext.executar(evento.tenant(), this::doTenant);
+        }
+    }
+
+    private ConcurrentHashMap<Long, AtomicLongArray> doTenant() {
+        if (!habilitado) {
+            return montar();
+        }
+        return porTenant.computeIfAbsent(TenantContext.atual(), tenant -> montar());
+    }
+
+    private ConcurrentHashMap<Long, AtomicLongArray> montar() {
+        ConcurrentHashMap<Long, AtomicLongArray> porProjeto = new ConcurrentHashMap<>();
+        projectRepository.findAllIds().forEach(id -> contadores(porProjeto, id));
+        somarLinhas(porProjeto, taskRepository.countByProjectStatusPriority());
+        somarLinhas(porProjeto, taskArchiveRepository.countByProjectStatusPriority());
+        return porProjeto;
+    }
+
+    private void somarLinhas(Map<Long, AtomicLongArray> porProjeto, List<Object[]> linhas) {
+        for (Object[] linha : linhas) {
+            AtomicLongArray contadores = contadores(porProjeto, (Long) linha[0]);
+            long total = (Long) linha[3];
+            somar(contadores, (Status) linha[1], (Priority) linha[2], total);
+        }
+    }
+
+    public void projetoCriado(Long idProject) {
+        String tenant = TenantContext.atual();
+        aposCommit(() -> contadores(tenant, idProject));
+    }
+
+    public void taskCriada(Long idProject, Status status, Priority priority) {
+        String tenant = TenantContext.atual();
+        aposCommit(() -> somar(contadores(tenant, idProject), status, priority, 1));
+    }
+
+    public void statusAlterado(Long idProject, Status anterior, Status novo) {
+        if (anterior == novo) {
+            return;
+        }
+        String tenant = TenantContext.atual();
+        aposCommit(() -> {
+            AtomicLongArray contadores = contadores(tenant, idProject);
+            somar(contadores, anterior, null, -1);
+            somar(contadores, novo, null, 1);
+        });
+    }
+
+    public void taskRemovida(Long idProject, Status status, Priority priority) {
+        String tenant = TenantContext.atual();
+        aposCommit(() -> somar(contadores(tenant, idProject), status, priority, -1));
+    }
+
+    // * sem estado em memória não há o que ajustar: a próxima leitura já conta a escrita
+    private void aposCommit(Runnable acao) {
+        if (habilitado) {
+            AposCommit.executar(acao);
+        }
+    }
+
+    public ProjectStatsDTO doProjeto(Long idProject) {
+        if (!habilitado) {
+            return contarNoBanco(idProject);
+        }
+        AtomicLongArray contadores = doTenant().get(idProject);
+        return contadores == null ? null : toDTO(idProject, contadores);
+    }
+
+    public List<ProjectStatsDTO> todos() {
+        return doTenant().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> toDTO(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    private ProjectStatsDTO contarNoBanco(Long idProject) {
+        if (!projectRepository.existsById(idProject)) {
+            return null;
+        }
+        Map<Long, AtomicLongArray> porProjeto = new HashMap<>();
+        AtomicLongArray contadores = contadores(porProjeto, idProject);
+        somarLinhas(porProjeto, taskRepository.countByProjectStatusPriority(idProject));
+        somarLinhas(porProjeto, taskArchiveRepository.countByProjectStatusPriority(idProject));
+        return toDTO(idProject, contadores);
+    }
+
+    private AtomicLongArray contadores(String tenant, Long idProject) {
+        return contadores(TenantContext.executar(tenant, this::doTenant), idProject);
+    }
+
+    private static AtomicLongArray contadores(Map<Long, AtomicLongArray> porProjeto, Long idProject) {
+        return porProjeto.computeIfAbsent(idProject, id -> new AtomicLongArray(TAMANHO));
+    }
+
+    private void somar(AtomicLongArray contadores, Status status, Priority priority, long delta) {
+        if (status != null) {
+            contadores.addAndGet(status.ordinal(), delta);
+        }
+        if (priority != null) {
+            contadores.addAndGet(INICIO_PRIORIDADE + priority.ordinal(), delta);
+        }
+    }
+
+    private ProjectStatsDTO toDTO(Long idProject, AtomicLongArray c) {
+        long todo = c.get(Status.TODO.ordinal());
+        long doing = c.get(Status.DOING.ordinal());
+        long done = c.get(Status.DONE.ordinal());
+        return new ProjectStatsDTO(idProject, todo + doing + done, todo, doing, done,
+                c.get(INICIO_PRIORIDADE + Priority.LOW.ordinal()),
+                c.get(INICIO_PRIORIDADE + Priority.MEDIUM.ordinal()),
+                c.get(INICIO_PRIORIDADE + Priority.HIGH.ordinal()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.desafio.gerenciamento.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// * contador de alterações por tabela e tenant: o ETag das listagens sai daqui sem consultar as linhas
+@Component
+public class TableVersions {
+
+    public enum Tabela {
+        TASKS, PROJECTS
+    }
+
+    // * muda a cada subida, já que os contadores recomeçam do zero
+    private final String boot = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    // * posição no array = ordinal da tabela
+    private final ConcurrentHashMap<String, AtomicLongArray> porTenant = new ConcurrentHashMap<>();
+    // * desligado quando várias instâncias dividem o banco: o contador de uma não vê as escritas das outras
+    private final boolean habilitado;
+
+    public TableVersions(@Value("${app.memory-state.enabled:true}") boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    // * incrementa só depois do commit: um ETag novo nunca acompanha dados antigos
+    public void alterada(Tabela tabela) {
+        if (!habilitado) {
+            return;
+        }
+        AtomicLongArray versoes = versoes();
+        AposCommit.executar(() -> versoes.incrementAndGet(tabela.ordinal()));
+    }
+
+    public long versao(Tabela tabela) {
+        return versoes().get(tabela.ordinal());
+    }
+
+    // * o tenant entra no ETag: a mesma URL com outro X-Tenant-Id nunca responde 304 com o cache do primeiro.
+    // * Desligado devolve null, e o checkNotModified do controller nunca responde 304
+    public String etag(Tabela tabela) {
+        if (!habilitado) {
+            return null;
+        }
+        return "\"" + tabela.name().toLowerCase() + "-" + boot + "-" + TenantContext.atual() + "-" + versao(tabela)
+                + "\"";
+    }
+
+    private AtomicLongArray versoes() {
+        return porTenant.computeIfAbsent(TenantContext.atual(), tenant -> new AtomicLongArray(Tabela.values().length));
+    }
+
+    // * If-Match: "*" ou uma lista de ETags, fortes ou fracos
+    public static boolean corresponde(String ifMatch, String etag) {
+        if (ifMatch == null) {
+            return true;
+        }
+        for (String item : ifMatch.split(",")) {
+            String valor = item.trim();
+            if (valor.equals("*") || valor.replaceFirst("^W/", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,117 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.service.TableVersions.Tabela;
+
+// * move de tb_task para tb_task_archive as tasks DONE com entrega há mais de after-days dias, um lote por transação,
+// * para que as listagens e os índices de tb_task fiquem só com o conjunto ativo
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskDependencyGraph dependencyGraph;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final TableVersions tableVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final int diasAposEntrega;
+    private final int tamanhoLote;
+
+    // * tenants que já receberam requisições desde a subida; os demais não têm leituras para aliviar
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+    public TaskArchiver(TaskRepository taskRepository, TaskArchiveRepository taskArchiveRepository,
+            TaskDependencyRepository taskDependencyRepository, TaskDependencyGraph dependencyGraph,
+            TaskStatusWriteBehind statusWriteBehind, TableVersions tableVersions,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.tasks.archive.enabled:false}") boolean habilitado,
+            @Value("${app.tasks.archive.after-days:90}") int diasAposEntrega,
+            @Value("${app.tasks.archive.batch-size:500}") int tamanhoLote) {
+        this.taskRepository = taskRepository;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.dependencyGraph = dependencyGraph;
+        this.statusWriteBehind = statusWriteBehind;
+        this.tableVersions = tableVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.diasAposEntrega = diasAposEntrega;
+        this.tamanhoLote = tamanhoLote;
+        this.tenants.add(TenantContext.PADRAO);
+    }
+
+    @EventListener
+    public void aoAbrirTenant(TenantOpenedEvent evento) {
+        tenants.add(evento.tenant());
+    }
+
+    @Scheduled(initialDelayString = "${app.tasks.archive.interval:PT1H}",
+            fixedDelayString = "${app.tasks.archive.interval:PT1H}")
+    public void arquivar() {
+        if (habilitado) {
+            arquivar(LocalDate.now());
+        }
+    }
+
+    int arquivar(LocalDate hoje) {
+        LocalDate corte = hoje.minusDays(diasAposEntrega);
+
+        int total = 0;
+        for (String tenant : tenants) {
+            total += TenantContext.executar(tenant, () -> arquivarTenant(corte, hoje));
+        }
+        return total;
+    }
+
+    private int arquivarTenant(LocalDate corte, LocalDate hoje) {
+        int total = 0;
+        int movidas;
+        do {
+            movidas = transactionTemplate.execute(tx -> moverLote(corte, hoje));
+            total += movidas;
+        } while (movidas == tamanhoLote);
+
+        if (total > 0) {
+            log.info("{} tasks concluídas com entrega anterior a {} arquivadas no tenant {}", total, corte,
+                    TenantContext.atual());
+        }
+        return total;
+    }
+
+    private int moverLote(LocalDate corte, LocalDate hoje) {
+        // * um status ainda na fila pode tirar a task de DONE: ele é gravado neste lote e as trocas esperam o commit
+        statusWriteBehind.gravarNaTransacao();
+        List<Long> ids = taskRepository.findArchivableIds(corte, Limit.of(tamanhoLote));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        taskArchiveRepository.copyFromTasks(ids, hoje);
+        // * uma task concluída não bloqueia mais ninguém: as dependências não vão para o arquivo
+        taskDependencyRepository.deleteByTaskIds(ids);
+        taskRepository.deleteByIds(ids);
+        tableVersions.alterada(Tabela.TASKS);
+        AposCommit.executar(() -> dependencyGraph.removerTasks(ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,139 @@
+package com.desafio.gerenciamento.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.ConstraintViolations;
+import com.desafio.gerenciamento.handler.TaskExists;
+import com.desafio.gerenciamento.mapper.TaskMapper;
+import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.TaskBatchItemResultDTO;
+import com.desafio.gerenciamento.response.TaskBatchItemResultDTO.Result;
+import com.desafio.gerenciamento.response.TaskBatchResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+@Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
+public class TaskBatchService {
+
+    // * mantém cada IN bem abaixo do limite de parâmetros do SQLite
+    static final int TAMANHO_CONSULTA = 500;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final TableVersions tableVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoLote;
+    private final int maximoItens;
+
+    public TaskBatchService(TaskRepository taskRepository, ProjectRepository projectRepository, TaskMapper taskMapper,
+            EntityManager entityManager, ProjectTaskCounters projectTaskCounters, TableVersions tableVersions,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.tasks.batch.size:500}") int tamanhoLote,
+            @Value("${app.tasks.batch.max-items:50000}") int maximoItens) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.taskMapper = taskMapper;
+        this.entityManager = entityManager;
+        this.projectTaskCounters = projectTaskCounters;
+        this.tableVersions = tableVersions;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoItens = maximoItens;
+    }
+
+    @Transactional
+    public TaskBatchResponseDTO criarTasks(List<TaskRequestDTO> dtos) {
+        if (dtos.size() > maximoItens) {
+            throw new BadRequestException("O lote pode ter no máximo " + maximoItens + " tasks");
+        }
+
+        Set<String> titulosExistentes = buscarEmBlocos(
+                dtos.stream().map(TaskRequestDTO::getTitle).distinct().toList(),
+                taskRepository::findExistingTitles);
+        Set<Long> projetosExistentes = buscarEmBlocos(
+                dtos.stream().map(TaskRequestDTO::getIdProject).distinct().toList(),
+                projectRepository::findExistingIds);
+
+        Set<String> titulosNoLote = new HashSet<>();
+        List<TaskBatchItemResultDTO> resultados = new ArrayList<>(dtos.size());
+        int criadas = 0;
+
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskRequestDTO dto = dtos.get(i);
+
+            if (titulosExistentes.contains(dto.getTitle()) || !titulosNoLote.add(dto.getTitle())) {
+                resultados.add(new TaskBatchItemResultDTO(i, dto.getTitle(), Result.DUPLICATE_TITLE, null,
+                        "Essa task já existe!"));
+                continue;
+            }
+            if (!projetosExistentes.contains(dto.getIdProject())) {
+                resultados.add(new TaskBatchItemResultDTO(i, dto.getTitle(), Result.PROJECT_NOT_FOUND, null,
+                        "Projeto com ID " + dto.getIdProject() + " não encontrado"));
+                continue;
+            }
+
+            Task novaTask = taskMapper.toEntity(dto);
+            // * o projeto já foi validado acima, então basta a referência sem SELECT
+            novaTask.setProject(entityManager.getReference(Project.class, dto.getIdProject()));
+            entityManager.persist(novaTask);
+            projectTaskCounters.taskCriada(dto.getIdProject(), dto.getStatus(), dto.getPriority());
+            eventPublisher.publishEvent(TaskChangedEvent.criada(new TaskResponseDTO(novaTask.getId(), dto.getTitle(),
+                    dto.getDescription(), dto.getStatus(), dto.getPriority(), dto.getDueDate(), dto.getIdProject())));
+            resultados.add(new TaskBatchItemResultDTO(i, dto.getTitle(), Result.CREATED, novaTask.getId(), null));
+
+            // * descarrega o lote em um único executeBatch e libera o contexto de persistência
+            if (++criadas % tamanhoLote == 0) {
+                descarregar();
+            }
+        }
+        descarregar();
+        if (criadas > 0) {
+            tableVersions.alterada(TableVersions.Tabela.TASKS);
+        }
+
+        return new TaskBatchResponseDTO(criadas, dtos.size() - criadas, resultados);
+    }
+
+    // * um título gravado por outra requisição depois da checagem só aparece aqui, pelo unique
+    private void descarregar() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (ConstraintViolations.isUniqueViolation(e)) {
+                throw new TaskExists("Uma ou mais tasks do lote já existem!");
+            }
+            throw e;
+        }
+        entityManager.clear();
+    }
+
+    private <T> Set<T> buscarEmBlocos(List<T> valores, Function<List<T>, Set<T>> consulta) {
+        Set<T> encontrados = new HashSet<>();
+        for (int inicio = 0; inicio < valores.size(); inicio += TAMANHO_CONSULTA) {
+            int fim = Math.min(inicio + TAMANHO_CONSULTA, valores.size());
+            encontrados.addAll(consulta.apply(valores.subList(inicio, fim)));
+        }
+        return encontrados;
+    }
+}
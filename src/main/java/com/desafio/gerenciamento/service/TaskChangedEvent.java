@@ -0,0 +1,24 @@
+package com.desafio.gerenciamento.service;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+// * publicado a cada escrita de task; os ouvintes (@TransactionalEventListener) só o recebem após o commit
+public record TaskChangedEvent(Tipo tipo, TaskResponseDTO task, Status statusAnterior) {
+
+    public enum Tipo {
+        CREATED, STATUS_CHANGED, DELETED
+    }
+
+    public static TaskChangedEvent criada(TaskResponseDTO task) {
+        return new TaskChangedEvent(Tipo.CREATED, task, null);
+    }
+
+    public static TaskChangedEvent statusAlterado(TaskResponseDTO task, Status anterior) {
+        return new TaskChangedEvent(Tipo.STATUS_CHANGED, task, anterior);
+    }
+
+    public static TaskChangedEvent removida(TaskResponseDTO task) {
+        return new TaskChangedEvent(Tipo.DELETED, task, task.getStatus());
+    }
+}
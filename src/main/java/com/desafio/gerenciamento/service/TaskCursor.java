@@ -0,0 +1,35 @@
+package com.desafio.gerenciamento.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+
+// * cursor opaco da paginação keyset: guarda apenas o último id entregue
+final class TaskCursor {
+
+    private static final String PREFIXO = "id:";
+
+    private TaskCursor() {
+    }
+
+    static String encode(Long ultimoId) {
+        byte[] bytes = (PREFIXO + ultimoId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIXO)) {
+                throw new BadRequestException("Cursor inválido");
+            }
+            return Long.parseLong(valor.substring(PREFIXO.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+}
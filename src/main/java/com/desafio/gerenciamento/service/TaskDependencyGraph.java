@@ -0,0 +1,367 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import jakarta.annotation.PostConstruct;
+
+// * índice em memória das dependências, por tenant: listas de adjacência nos dois sentidos e, para cada task
+// * ligada a alguma dependência, o projeto, o status e a entrega. Carregado uma vez e ajustado a cada escrita,
+// * então bloqueios e caminho crítico não fazem consulta recursiva no banco. Com app.memory-state.enabled=false
+// * (várias instâncias no mesmo banco) o grafo é montado do banco a cada chamada e descartado
+@Component
+public class TaskDependencyGraph {
+
+    private record No(Long idProject, Status status, LocalDate dueDate) {
+
+        boolean aberta() {
+            return status != Status.DONE;
+        }
+    }
+
+    private static final class Grafo {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, No> nos = new HashMap<>();
+        // * task -> quem a bloqueia e task -> quem ela bloqueia
+        final Map<Long, Set<Long>> bloqueadores = new HashMap<>();
+        final Map<Long, Set<Long>> bloqueadas = new HashMap<>();
+        final Map<Long, Set<Long>> porProjeto = new HashMap<>();
+
+        void incluir(TaskResponseDTO task) {
+            No anterior = nos.put(task.getIdTask(),
+                    new No(task.getIdProject(), task.getStatus(), task.getDueDate()));
+            if (anterior == null) {
+                porProjeto.computeIfAbsent(task.getIdProject(), id -> new HashSet<>()).add(task.getIdTask());
+            }
+        }
+
+        boolean ligar(Long idTask, Long idBloqueador) {
+            bloqueadas.computeIfAbsent(idBloqueador, id -> new HashSet<>()).add(idTask);
+            return bloqueadores.computeIfAbsent(idTask, id -> new HashSet<>()).add(idBloqueador);
+        }
+
+        void desligar(Long idTask, Long idBloqueador) {
+            remover(bloqueadores, idTask, idBloqueador);
+            remover(bloqueadas, idBloqueador, idTask);
+            podar(idTask);
+            podar(idBloqueador);
+        }
+
+        void excluir(Long id) {
+            for (Long idBloqueador : bloqueadores.getOrDefault(id, Set.of())) {
+                remover(bloqueadas, idBloqueador, id);
+                podar(idBloqueador);
+            }
+            for (Long idBloqueada : bloqueadas.getOrDefault(id, Set.of())) {
+                remover(bloqueadores, idBloqueada, id);
+                podar(idBloqueada);
+            }
+            bloqueadores.remove(id);
+            bloqueadas.remove(id);
+            podar(id);
+        }
+
+        // * task sem nenhuma dependência sai do índice
+        private void podar(Long id) {
+            if (bloqueadores.containsKey(id) || bloqueadas.containsKey(id)) {
+                return;
+            }
+            No no = nos.remove(id);
+            if (no != null) {
+                remover(porProjeto, no.idProject(), id);
+            }
+        }
+
+        private static void remover(Map<Long, Set<Long>> mapa, Long chave, Long valor) {
+            Set<Long> valores = mapa.get(chave);
+            if (valores != null && valores.remove(valor) && valores.isEmpty()) {
+                mapa.remove(chave);
+            }
+        }
+    }
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ConcurrentHashMap<String, Grafo> porTenant = new ConcurrentHashMap<>();
+    private final boolean habilitado;
+
+    public TaskDependencyGraph(TaskDependencyRepository taskDependencyRepository,
+            @Value("${app.memory-state.enabled:true}") boolean habilitado) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.habilitado = habilitado;
+    }
+
+    @PostConstruct
+    void carregar() {
+        if (habilitado) {
+            doTenant();
+        }
+    }
+
+    @EventListener
+    public void aoAbrirTenant(TenantOpenedEvent evento) {
+        if (habilitado) {
+            TenantContext.executar(evento.tenant(), this::doTenant);
+        }
+    }
+
+    private Grafo doTenant() {
+        if (!habilitado) {
+            return montar();
+        }
+        return porTenant.computeIfAbsent(TenantContext.atual(), tenant -> montar());
+    }
+
+    private Grafo montar() {
+        Grafo grafo = new Grafo();
+        taskDependencyRepository.findLinkedTasks().forEach(grafo::incluir);
+        for (Object[] par : taskDependencyRepository.findAllPairs()) {
+            grafo.ligar((Long) par[0], (Long) par[1]);
+        }
+        return grafo;
+    }
+
+    // * checagem de ciclo e inclusão sob o mesmo lock: duas ligações opostas simultâneas não passam juntas.
+    // * Devolve false se a ligação já existia
+    public boolean adicionar(TaskResponseDTO task, TaskResponseDTO bloqueador) {
+        if (!habilitado) {
+            // * sem grafo guardado o lock não vale entre instâncias: quem chama já travou as duas tasks no banco,
+            // * e o ciclo é procurado na mesma transação
+            if (taskDependencyRepository.countReachable(bloqueador.getIdTask(), task.getIdTask()) > 0) {
+                throw ciclo(montar(), task, bloqueador);
+            }
+            return true;
+        }
+        Grafo grafo = doTenant();
+        grafo.lock.writeLock().lock();
+        try {
+            if (!caminho(grafo, bloqueador.getIdTask(), task.getIdTask()).isEmpty()) {
+                throw ciclo(grafo, task, bloqueador);
+            }
+            grafo.incluir(task);
+            grafo.incluir(bloqueador);
+            return grafo.ligar(task.getIdTask(), bloqueador.getIdTask());
+        } finally {
+            grafo.lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Long idTask, Long idBloqueador) {
+        if (!habilitado) {
+            return;
+        }
+        Grafo grafo = doTenant();
+        grafo.lock.writeLock().lock();
+        try {
+            grafo.desligar(idTask, idBloqueador);
+        } finally {
+            grafo.lock.writeLock().unlock();
+        }
+    }
+
+    public void removerTasks(Collection<Long> ids) {
+        if (!habilitado) {
+            return;
+        }
+        Grafo grafo = doTenant();
+        grafo.lock.writeLock().lock();
+        try {
+            ids.forEach(grafo::excluir);
+        } finally {
+            grafo.lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterar(TaskChangedEvent evento) {
+        // * sem grafo guardado não há o que ajustar: a próxima chamada já lê a escrita do banco
+        if (!habilitado) {
+            return;
+        }
+        TaskResponseDTO task = evento.task();
+        if (evento.tipo() == TaskChangedEvent.Tipo.DELETED) {
+            removerTasks(List.of(task.getIdTask()));
+            return;
+        }
+        if (evento.tipo() != TaskChangedEvent.Tipo.STATUS_CHANGED) {
+            return;
+        }
+        Grafo grafo = doTenant();
+        grafo.lock.writeLock().lock();
+        try {
+            if (grafo.nos.containsKey(task.getIdTask())) {
+                grafo.incluir(task);
+            }
+        } finally {
+            grafo.lock.writeLock().unlock();
+        }
+    }
+
+    // * quem ainda segura a task, direta ou indiretamente: uma bloqueadora concluída não bloqueia mais, e o que
+    // * está atrás dela também não; os mais próximos primeiro
+    public List<Long> bloqueadoresAbertos(Long id) {
+        Grafo grafo = doTenant();
+        grafo.lock.readLock().lock();
+        try {
+            Map<Long, Integer> distancia = new HashMap<>();
+            ArrayDeque<Long> fila = new ArrayDeque<>();
+            distancia.put(id, 0);
+            fila.add(id);
+            List<Long> abertos = new ArrayList<>();
+            while (!fila.isEmpty()) {
+                Long atual = fila.poll();
+                for (Long idBloqueador : grafo.bloqueadores.getOrDefault(atual, Set.of())) {
+                    No no = grafo.nos.get(idBloqueador);
+                    if (no == null || !no.aberta() || distancia.containsKey(idBloqueador)) {
+                        continue;
+                    }
+                    distancia.put(idBloqueador, distancia.get(atual) + 1);
+                    abertos.add(idBloqueador);
+                    fila.add(idBloqueador);
+                }
+            }
+            abertos.sort(Comparator.comparing((Long bloqueador) -> distancia.get(bloqueador))
+                    .thenComparing(Comparator.naturalOrder()));
+            return abertos;
+        } finally {
+            grafo.lock.readLock().unlock();
+        }
+    }
+
+    // * a maior cadeia de tasks abertas do projeto, da primeira bloqueadora até a última task. Ordem topológica
+    // * (Kahn) com programação dinâmica, O(tasks + dependências); no empate vale a bloqueadora com entrega mais
+    // * tardia, que é a que segura o início da seguinte, e no fim a cadeia que termina mais tarde
+    public List<Long> caminhoCritico(Long idProject) {
+        Grafo grafo = doTenant();
+        grafo.lock.readLock().lock();
+        try {
+            List<Long> abertas = new ArrayList<>();
+            for (Long id : grafo.porProjeto.getOrDefault(idProject, Set.of())) {
+                if (grafo.nos.get(id).aberta()) {
+                    abertas.add(id);
+                }
+            }
+
+            Map<Long, Integer> pendentes = new HashMap<>(abertas.size() * 2);
+            ArrayDeque<Long> fila = new ArrayDeque<>();
+            for (Long id : abertas) {
+                int entrada = 0;
+                for (Long idBloqueador : grafo.bloqueadores.getOrDefault(id, Set.of())) {
+                    if (aberta(grafo, idBloqueador, idProject)) {
+                        entrada++;
+                    }
+                }
+                pendentes.put(id, entrada);
+                if (entrada == 0) {
+                    fila.add(id);
+                }
+            }
+
+            Map<Long, Integer> comprimento = new HashMap<>(abertas.size() * 2);
+            Map<Long, Long> anterior = new HashMap<>(abertas.size() * 2);
+            Long fim = null;
+            while (!fila.isEmpty()) {
+                Long id = fila.poll();
+                int tamanho = comprimento.merge(id, 1, Math::max);
+                if (fim == null || melhorFim(grafo, id, tamanho, fim, comprimento.get(fim))) {
+                    fim = id;
+                }
+                for (Long idBloqueada : grafo.bloqueadas.getOrDefault(id, Set.of())) {
+                    if (!aberta(grafo, idBloqueada, idProject)) {
+                        continue;
+                    }
+                    Integer atual = comprimento.get(idBloqueada);
+                    if (atual == null || tamanho + 1 > atual || (tamanho + 1 == atual
+                            && grafo.nos.get(id).dueDate().isAfter(grafo.nos.get(anterior.get(idBloqueada)).dueDate()))) {
+                        comprimento.put(idBloqueada, tamanho + 1);
+                        anterior.put(idBloqueada, id);
+                    }
+                    if (pendentes.merge(idBloqueada, -1, Integer::sum) == 0) {
+                        fila.add(idBloqueada);
+                    }
+                }
+            }
+
+            List<Long> caminho = new ArrayList<>();
+            for (Long id = fim; id != null; id = anterior.get(id)) {
+                caminho.add(id);
+            }
+            Collections.reverse(caminho);
+            return caminho;
+        } finally {
+            grafo.lock.readLock().unlock();
+        }
+    }
+
+    private static boolean aberta(Grafo grafo, Long id, Long idProject) {
+        No no = grafo.nos.get(id);
+        return no != null && no.aberta() && Objects.equals(no.idProject(), idProject);
+    }
+
+    private static boolean melhorFim(Grafo grafo, Long id, int tamanho, Long fim, int tamanhoFim) {
+        if (tamanho != tamanhoFim) {
+            return tamanho > tamanhoFim;
+        }
+        int entrega = grafo.nos.get(id).dueDate().compareTo(grafo.nos.get(fim).dueDate());
+        return entrega != 0 ? entrega > 0 : id < fim;
+    }
+
+    // * busca em largura de origem até destino seguindo quem bloqueia; devolve o caminho no sentido
+    // * "bloqueia" (destino ... origem), ou vazio se não houver
+    private static BadRequestException ciclo(Grafo grafo, TaskResponseDTO task, TaskResponseDTO bloqueador) {
+        List<Long> ciclo = caminho(grafo, bloqueador.getIdTask(), task.getIdTask());
+        ciclo.add(task.getIdTask());
+        return new BadRequestException("A dependência criaria um ciclo: " + ciclo.stream()
+                .map(String::valueOf).collect(Collectors.joining(" -> ")));
+    }
+
+    private static List<Long> caminho(Grafo grafo, Long origem, Long destino) {
+        if (origem.equals(destino)) {
+            return new ArrayList<>(List.of(destino));
+        }
+        Map<Long, Long> veioDe = new HashMap<>();
+        ArrayDeque<Long> fila = new ArrayDeque<>();
+        veioDe.put(origem, origem);
+        fila.add(origem);
+        while (!fila.isEmpty()) {
+            Long atual = fila.poll();
+            for (Long idBloqueador : grafo.bloqueadores.getOrDefault(atual, Set.of())) {
+                if (veioDe.putIfAbsent(idBloqueador, atual) != null) {
+                    continue;
+                }
+                if (idBloqueador.equals(destino)) {
+                    List<Long> caminho = new ArrayList<>();
+                    for (Long id = destino; !id.equals(origem); id = veioDe.get(id)) {
+                        caminho.add(id);
+                    }
+                    caminho.add(origem);
+                    return caminho;
+                }
+                fila.add(idBloqueador);
+            }
+        }
+        return new ArrayList<>();
+    }
+}
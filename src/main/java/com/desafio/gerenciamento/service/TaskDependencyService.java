@@ -0,0 +1,140 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.ResourceNotFoundException;
+import com.desafio.gerenciamento.model.TaskDependency;
+import com.desafio.gerenciamento.model.TaskDependencyId;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.ProjectCriticalPathDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+@Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
+public class TaskDependencyService {
+
+    // * cabe no IN da seleção por ids
+    static final int TAMANHO_LOTE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskDependencyGraph graph;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final ProjectCache projectCache;
+    private final EntityManager entityManager;
+
+    public TaskDependencyService(TaskRepository taskRepository, TaskDependencyRepository taskDependencyRepository,
+            TaskDependencyGraph graph, TaskStatusWriteBehind statusWriteBehind, ProjectCache projectCache,
+            EntityManager entityManager) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.graph = graph;
+        this.statusWriteBehind = statusWriteBehind;
+        this.projectCache = projectCache;
+        this.entityManager = entityManager;
+    }
+
+    // * idempotente: repetir a mesma dependência não é erro
+    @Transactional
+    public void adicionarBloqueio(Long id, Long idBlocker) {
+        if (id.equals(idBlocker)) {
+            throw new BadRequestException("Uma task não pode bloquear a si mesma");
+        }
+        TaskResponseDTO task = buscar(id);
+        TaskResponseDTO bloqueador = buscar(idBlocker);
+        if (!task.getIdProject().equals(bloqueador.getIdProject())) {
+            throw new BadRequestException("As tasks " + id + " e " + idBlocker + " pertencem a projetos diferentes");
+        }
+        // * duas ligações simultâneas entre as mesmas tasks passam uma de cada vez pela checagem de ciclo
+        taskRepository.lockByIds(List.of(id, idBlocker));
+        if (taskDependencyRepository.existsById(new TaskDependencyId(id, idBlocker))) {
+            return;
+        }
+        statusWriteBehind.applyPending(task);
+        statusWriteBehind.applyPending(bloqueador);
+
+        // * o grafo valida o ciclo e já guarda a ligação; se a transação não for confirmada, ela sai de novo
+        if (graph.adicionar(task, bloqueador)) {
+            AposCommit.aoDesfazer(() -> graph.remover(id, idBlocker));
+        }
+        // * chave atribuída: persist vai direto ao INSERT, sem o SELECT do merge
+        entityManager.persist(new TaskDependency(id, idBlocker));
+    }
+
+    @Transactional
+    public void removerBloqueio(Long id, Long idBlocker) {
+        TaskDependencyId chave = new TaskDependencyId(id, idBlocker);
+        if (!taskDependencyRepository.existsById(chave)) {
+            throw new ResourceNotFoundException("A task " + idBlocker + " não bloqueia a task " + id);
+        }
+        taskDependencyRepository.deleteById(chave);
+        AposCommit.executar(() -> graph.remover(id, idBlocker));
+    }
+
+    // * bloqueadoras ainda abertas, diretas e transitivas, das mais próximas para as mais distantes
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listarBloqueadores(Long id) {
+        if (!taskRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task com ID " + id + " não encontrada.");
+        }
+        return carregar(graph.bloqueadoresAbertos(id));
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectCriticalPathDTO caminhoCritico(Long idProject) {
+        if (!projectCache.existsById(idProject)) {
+            throw new ResourceNotFoundException("Projeto com ID " + idProject + " não encontrado");
+        }
+        List<TaskResponseDTO> tasks = carregar(graph.caminhoCritico(idProject));
+        if (tasks.isEmpty()) {
+            return new ProjectCriticalPathDTO(idProject, 0, null, null, tasks, List.of());
+        }
+
+        // * sem duração nas tasks, o prazo é a entrega: uma task que vence antes da que a bloqueia está em conflito
+        List<Long> conflitos = new ArrayList<>();
+        LocalDate anterior = null;
+        for (TaskResponseDTO task : tasks) {
+            if (anterior != null && task.getDueDate().isBefore(anterior)) {
+                conflitos.add(task.getIdTask());
+            }
+            anterior = task.getDueDate();
+        }
+        return new ProjectCriticalPathDTO(idProject, tasks.size(), tasks.get(0).getDueDate(),
+                tasks.get(tasks.size() - 1).getDueDate(), tasks, conflitos);
+    }
+
+    private TaskResponseDTO buscar(Long id) {
+        return taskRepository.findProjectedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+    }
+
+    // * carrega os DTOs em lotes, na ordem dos ids recebidos
+    private List<TaskResponseDTO> carregar(List<Long> ids) {
+        Map<Long, TaskResponseDTO> porId = new HashMap<>(ids.size() * 2);
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE, ids.size()));
+            taskRepository.findProjectedByIds(lote).forEach(task -> porId.put(task.getIdTask(), task));
+        }
+        List<TaskResponseDTO> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskResponseDTO task = porId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        statusWriteBehind.applyPending(tasks);
+        return tasks;
+    }
+}
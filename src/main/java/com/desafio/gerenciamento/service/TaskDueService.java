@@ -0,0 +1,70 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
+public class TaskDueService {
+
+    static final int DIAS_PADRAO = 7;
+    static final int DIAS_MAXIMO = 366;
+
+    private final TaskRepository taskRepository;
+    private final OverdueTasks overdueTasks;
+    private final TaskStatusWriteBehind statusWriteBehind;
+
+    public TaskDueService(TaskRepository taskRepository, OverdueTasks overdueTasks,
+            TaskStatusWriteBehind statusWriteBehind) {
+        this.taskRepository = taskRepository;
+        this.overdueTasks = overdueTasks;
+        this.statusWriteBehind = statusWriteBehind;
+    }
+
+    // * servido pelo conjunto em memória, sem consulta; com várias instâncias no mesmo banco, pelo índice de entrega
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listarVencidas(Long idProject) {
+        if (overdueTasks.habilitado()) {
+            return overdueTasks.listar(idProject);
+        }
+        LocalDate hoje = LocalDate.now();
+        List<TaskResponseDTO> tasks = idProject == null
+                ? taskRepository.findOpenDueBefore(hoje)
+                : taskRepository.findOpenDueBeforeInProject(idProject, hoje);
+        statusWriteBehind.applyPending(tasks);
+        return tasks;
+    }
+
+    public List<TaskResponseDTO> listarAVencer(Integer dias, Long idProject) {
+        int quantidade = dias == null ? DIAS_PADRAO : dias;
+        if (quantidade < 0 || quantidade > DIAS_MAXIMO) {
+            throw new BadRequestException("O número de dias deve estar entre 0 e " + DIAS_MAXIMO);
+        }
+        LocalDate hoje = LocalDate.now();
+        return listarEntre(hoje, hoje.plusDays(quantidade), idProject);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listarEntre(LocalDate de, LocalDate ate, Long idProject) {
+        if (de == null || ate == null) {
+            throw new BadRequestException("Os parâmetros from e to são obrigatórios");
+        }
+        if (ate.isBefore(de)) {
+            throw new BadRequestException("A data final deve ser igual ou posterior à inicial");
+        }
+        List<TaskResponseDTO> tasks = idProject == null
+                ? taskRepository.findOpenDueBetween(de, ate)
+                : taskRepository.findOpenDueBetweenInProject(idProject, de, ate);
+        statusWriteBehind.applyPending(tasks);
+        return tasks;
+    }
+}
@@ -0,0 +1,175 @@
+package com.desafio.gerenciamento.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.desafio.gerenciamento.response.TaskEventDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+// * feed SSE das alterações de task: cada assinante tem uma fila limitada e uma única thread virtual que
+// * escreve nela; quem não acompanha o ritmo e enche a fila é desconectado (o EventSource reconecta sozinho)
+@Component
+public class TaskEventStream implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventStream.class);
+
+    private record Envio(long id, TaskEventDTO evento) {
+    }
+
+    // * marcador de keep-alive: também passa pela fila, mantendo um único escritor por conexão
+    private static final Envio HEARTBEAT = new Envio(-1, null);
+
+    private final class Assinante {
+        final SseEmitter emitter;
+        final String tenant;
+        final Long idProject;
+        final BlockingQueue<Envio> fila;
+        final AtomicBoolean escrevendo = new AtomicBoolean();
+
+        Assinante(SseEmitter emitter, String tenant, Long idProject) {
+            this.emitter = emitter;
+            this.tenant = tenant;
+            this.idProject = idProject;
+            this.fila = new ArrayBlockingQueue<>(tamanhoFila);
+        }
+    }
+
+    private final int tamanhoFila;
+    private final Duration timeout;
+    private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ExecutorService escritores = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-stream-", 0).factory());
+    private Counter desconectados;
+
+    public TaskEventStream(@Value("${app.tasks.stream.buffer-size:256}") int tamanhoFila,
+            @Value("${app.tasks.stream.timeout:30m}") Duration timeout) {
+        this.tamanhoFila = tamanhoFila;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.tasks.stream.subscribers", assinantes, List::size)
+                .description("Conexões abertas em GET /tasks/stream")
+                .register(registry);
+        desconectados = Counter.builder("app.tasks.stream.evicted")
+                .description("Assinantes desconectados por fila cheia")
+                .register(registry);
+    }
+
+    public SseEmitter assinar(Long idProject) {
+        return assinar(new SseEmitter(timeout.toMillis()), idProject);
+    }
+
+    SseEmitter assinar(SseEmitter emitter, Long idProject) {
+        Assinante assinante = new Assinante(emitter, TenantContext.atual(), idProject);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> assinantes.remove(assinante));
+        emitter.onError(e -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+        return emitter;
+    }
+
+    public int assinantes() {
+        return assinantes.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterar(TaskChangedEvent evento) {
+        if (assinantes.isEmpty()) {
+            return;
+        }
+        Envio envio = new Envio(sequencia.incrementAndGet(), new TaskEventDTO(
+                evento.tipo().name().toLowerCase(), evento.statusAnterior(), evento.task()));
+        // * o evento chega após o commit, ainda na thread (e no tenant) de quem escreveu
+        String tenant = TenantContext.atual();
+        Long idProject = evento.task().getIdProject();
+        for (Assinante assinante : assinantes) {
+            if (assinante.tenant.equals(tenant)
+                    && (assinante.idProject == null || Objects.equals(assinante.idProject, idProject))) {
+                entregar(assinante, envio);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Assinante assinante : assinantes) {
+            entregar(assinante, HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        assinantes.forEach(a -> a.emitter.complete());
+        escritores.shutdownNow();
+    }
+
+    // * nunca bloqueia quem publica: com a fila cheia o assinante é descartado
+    private void entregar(Assinante assinante, Envio envio) {
+        if (!assinante.fila.offer(envio)) {
+            if (assinantes.remove(assinante)) {
+                if (desconectados != null) {
+                    desconectados.increment();
+                }
+                log.warn("Assinante de /tasks/stream desconectado: {} eventos pendentes", assinante.fila.size());
+                assinante.emitter.complete();
+            }
+            return;
+        }
+        if (assinante.escrevendo.compareAndSet(false, true)) {
+            escritores.execute(() -> escrever(assinante));
+        }
+    }
+
+    private void escrever(Assinante assinante) {
+        try {
+            Envio envio;
+            while ((envio = assinante.fila.poll()) != null) {
+                if (envio == HEARTBEAT) {
+                    assinante.emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    assinante.emitter.send(SseEmitter.event()
+                            .id(Long.toString(envio.id()))
+                            .name(envio.evento().type())
+                            .data(envio.evento(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // * conexão fechada pelo cliente
+            assinantes.remove(assinante);
+            assinante.fila.clear();
+            return;
+        } finally {
+            assinante.escrevendo.set(false);
+        }
+        // * algo pode ter chegado entre o último poll e a liberação da flag
+        if (!assinante.fila.isEmpty() && assinante.escrevendo.compareAndSet(false, true)) {
+            escritores.execute(() -> escrever(assinante));
+        }
+    }
+}
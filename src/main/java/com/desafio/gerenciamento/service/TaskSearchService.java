@@ -0,0 +1,102 @@
+package com.desafio.gerenciamento.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.repository.TaskSpecifications;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.response.TaskSearchResponseDTO;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
+public class TaskSearchService {
+
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final boolean fts5;
+
+    public TaskSearchService(TaskRepository taskRepository, TaskStatusWriteBehind statusWriteBehind,
+            @Value("${app.search.fts5.enabled:true}") boolean fts5) {
+        this.taskRepository = taskRepository;
+        this.statusWriteBehind = statusWriteBehind;
+        this.fts5 = fts5;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSearchResponseDTO buscar(String q, Integer limit, Integer offset) {
+        List<String> termos = termos(q);
+        int tamanho = limit == null ? LIMITE_PADRAO : limit;
+        if (tamanho < 1 || tamanho > LIMITE_MAXIMO) {
+            throw new BadRequestException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        int inicio = offset == null ? 0 : offset;
+        if (inicio < 0) {
+            throw new BadRequestException("O offset não pode ser negativo");
+        }
+
+        // * um a mais indica próxima página
+        List<TaskResponseDTO> tasks;
+        boolean temMais;
+        if (fts5) {
+            // * o índice devolve só os ids já ordenados por relevância
+            List<Long> ids = taskRepository.searchIds(consultaFts5(termos), tamanho + 1, inicio).stream()
+                    .map(Number::longValue)
+                    .collect(Collectors.toList());
+            temMais = ids.size() > tamanho;
+            tasks = projetarNaOrdem(temMais ? ids.subList(0, tamanho) : ids);
+        } else {
+            tasks = taskRepository.findProjected(TaskSpecifications.contemTermos(termos), inicio, tamanho + 1);
+            temMais = tasks.size() > tamanho;
+            if (temMais) {
+                tasks = tasks.subList(0, tamanho);
+            }
+        }
+        statusWriteBehind.applyPending(tasks);
+
+        return new TaskSearchResponseDTO(tasks, inicio, tamanho, temMais ? inicio + tamanho : null);
+    }
+
+    private List<TaskResponseDTO> projetarNaOrdem(List<Long> ids) {
+        Map<Long, TaskResponseDTO> porId = ids.isEmpty() ? Map.of()
+                : taskRepository.findProjectedByIds(ids).stream()
+                        .collect(Collectors.toMap(TaskResponseDTO::getIdTask, Function.identity()));
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
+    static List<String> termos(String q) {
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("O parâmetro q é obrigatório");
+        }
+        return List.of(q.trim().split("\\s+"));
+    }
+
+    static String consultaFts5(String q) {
+        return consultaFts5(termos(q));
+    }
+
+    // * cada termo vira uma frase entre aspas (a sintaxe do FTS5 não chega ao usuário) e o último aceita prefixo
+    static String consultaFts5(List<String> termos) {
+        StringBuilder consulta = new StringBuilder();
+        for (String termo : termos) {
+            if (consulta.length() > 0) {
+                consulta.append(' ');
+            }
+            consulta.append('"').append(termo.replace("\"", "\"\"")).append('"');
+        }
+        return consulta.append('*').toString();
+    }
+}
@@ -1,79 +1,342 @@
 package com.desafio.gerenciamento.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.desafio.gerenciamento.mapper.TaskMapper;
 import com.desafio.gerenciamento.request.UpdateTaskStatusDTO;
+import com.desafio.gerenciamento.response.TaskPageResponseDTO;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.ConstraintViolations;
+import com.desafio.gerenciamento.handler.PreconditionFailedException;
 import com.desafio.gerenciamento.handler.ResourceNotFoundException;
 import com.desafio.gerenciamento.handler.TaskExists;
 import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Status;
 import com.desafio.gerenciamento.model.Task;
 import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
 import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.repository.TaskSpecifications;
+import com.desafio.gerenciamento.request.TaskFilter;
 import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.request.TaskStatusBulkRequestDTO;
 import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.response.TaskStatusBulkResponseDTO;
+import com.desafio.gerenciamento.service.TableVersions.Tabela;
 
 @Service
+@Timed(value = "app.service", description = "Tempo de execução dos métodos de serviço")
 public class TaskService {
 
+    static final int LIMITE_PADRAO = 50;
+    static final int LIMITE_MAXIMO = 500;
+    // * cabe no IN da seleção por ids (o SQLite aceita até 32766 parâmetros)
+    static final int LIMITE_EM_MASSA = 10_000;
+    static final int TAMANHO_UPDATE = 500;
+
     private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
     private final ProjectRepository projectRepository;
     private final TaskMapper taskMapper;
+    private final ProjectCache projectCache;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final NdjsonWriter ndjsonWriter;
+    private final TableVersions tableVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate leitura;
 
-    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository,TaskMapper taskMapper) {
+    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository,TaskMapper taskMapper,
+            ProjectCache projectCache, TaskStatusWriteBehind statusWriteBehind,
+            ProjectTaskCounters projectTaskCounters, NdjsonWriter ndjsonWriter, TableVersions tableVersions,
+            ApplicationEventPublisher eventPublisher, TaskArchiveRepository taskArchiveRepository,
+            TaskDependencyRepository taskDependencyRepository, PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
         this.projectRepository = projectRepository;
         this.taskMapper = taskMapper;
+        this.projectCache = projectCache;
+        this.statusWriteBehind = statusWriteBehind;
+        this.projectTaskCounters = projectTaskCounters;
+        this.ndjsonWriter = ndjsonWriter;
+        this.tableVersions = tableVersions;
+        this.eventPublisher = eventPublisher;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    public String etagTasks() {
+        return tableVersions.etag(Tabela.TASKS);
+    }
+
+    // * só lê a coluna de versão pela chave primária; o status ainda na fila também entra no ETag
+    @Transactional(readOnly = true)
+    public String etagTask(Long id) {
+        // * uma task arquivada mantém a versão, então o ETag que o cliente já tinha continua valendo
+        Long versao = taskRepository.findVersionById(id)
+                .or(() -> taskArchiveRepository.findVersionById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+        return etagTask(id, versao, statusWriteBehind.pending(id));
+    }
+
+    private static String etagTask(Long id, Long versao, Status pendente) {
+        return "\"task-" + id + "-" + versao + (pendente != null ? "-" + pendente.name() : "") + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponseDTO buscarTask(Long id) {
+        TaskResponseDTO task = taskRepository.findProjectedById(id)
+                .or(() -> taskArchiveRepository.findProjectedById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+        statusWriteBehind.applyPending(task);
+        return task;
     }
 
     @Transactional
     public TaskResponseDTO criarTask(TaskRequestDTO dto) {
-        if (taskRepository.findByTitle(dto.getTitle()) != null) {
-            throw new TaskExists("Essa task já existe!");
+        if (!projectCache.existsById(dto.getIdProject())) {
+            throw new ResourceNotFoundException("Projeto com ID " + dto.getIdProject() + " não encontrado");
         }
 
         Task novaTask = taskMapper.toEntity(dto);
 
-        Project acharProjeto = projectRepository.findById(dto.getIdProject())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Projeto com ID " + dto.getIdProject() + " não encontrado"));
-
+        // * existência já confirmada pelo cache: a referência evita um SELECT no projeto
+        Project acharProjeto = projectRepository.getReferenceById(dto.getIdProject());
         novaTask.setProject(acharProjeto);
 
-        Task taskSalva = taskRepository.save(novaTask);
+        // * o unique de title é quem garante a unicidade: um único INSERT, sem consulta prévia
+        Task taskSalva;
+        try {
+            taskSalva = taskRepository.saveAndFlush(novaTask);
+        } catch (DataAccessException e) {
+            // * no SQLite o unique vem do lote de inserts como JpaSystemException, não como DataIntegrityViolation
+            if (ConstraintViolations.isUniqueViolation(e)) {
+                throw new TaskExists("Essa task já existe!");
+            }
+            throw e;
+        }
+        projectTaskCounters.taskCriada(dto.getIdProject(), taskSalva.getStatus(), taskSalva.getPriority());
+        tableVersions.alterada(Tabela.TASKS);
 
-        return taskMapper.toResponse(taskSalva);
+        TaskResponseDTO resposta = taskMapper.toResponse(taskSalva);
+        eventPublisher.publishEvent(TaskChangedEvent.criada(resposta));
+        return resposta;
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDTO> listarTasks(String status, String priority, Long idProject) {
-        List<Task> tasks = taskRepository.findByStatusOrPriorityOrIdProject(status, priority, idProject);
-        return taskMapper.toResponseList(tasks);
+    public List<TaskResponseDTO> listarTasks(TaskFilter filtro) {
+        return listarTasks(filtro, false);
+    }
+
+    // * por padrão só tb_task; com incluirArquivadas o arquivo entra na mesma lista, intercalado por id
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listarTasks(TaskFilter filtro, boolean incluirArquivadas) {
+        if (filtro.isEmpty()) {
+            return listarTasks(incluirArquivadas);
+        }
+        List<TaskResponseDTO> tasks = taskRepository.findProjected(TaskSpecifications.matching(filtro));
+        statusWriteBehind.applyPending(tasks);
+        return incluirArquivadas
+                ? intercalar(tasks, taskArchiveRepository.findProjected(TaskSpecifications.matching(filtro)))
+                : tasks;
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> listarTasks() {
-        List<Task> listarTodas = taskRepository.findAll();
-        return taskMapper.toResponseList(listarTodas);
+        return listarTasks(false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listarTasks(boolean incluirArquivadas) {
+        List<TaskResponseDTO> tasks = taskRepository.findAllProjected();
+        statusWriteBehind.applyPending(tasks);
+        return incluirArquivadas ? intercalar(tasks, taskArchiveRepository.findAllProjected()) : tasks;
+    }
+
+    private static List<TaskResponseDTO> intercalar(List<TaskResponseDTO> ativas, List<TaskResponseDTO> arquivadas) {
+        if (arquivadas.isEmpty()) {
+            return ativas;
+        }
+        List<TaskResponseDTO> todas = new ArrayList<>(ativas.size() + arquivadas.size());
+        int i = 0;
+        int j = 0;
+        while (i < ativas.size() && j < arquivadas.size()) {
+            todas.add(ativas.get(i).getIdTask() < arquivadas.get(j).getIdTask() ? ativas.get(i++) : arquivadas.get(j++));
+        }
+        todas.addAll(ativas.subList(i, ativas.size()));
+        todas.addAll(arquivadas.subList(j, arquivadas.size()));
+        return todas;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponseDTO listarPagina(Integer limit, String after) {
+        int tamanho = limit == null ? LIMITE_PADRAO : limit;
+        if (tamanho < 1 || tamanho > LIMITE_MAXIMO) {
+            throw new BadRequestException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        long ultimoId = TaskCursor.decode(after);
+
+        // * busca um registro a mais só para saber se existe próxima página
+        List<TaskResponseDTO> tasks = taskRepository.findPageProjected(ultimoId, Limit.of(tamanho + 1));
+        boolean temMais = tasks.size() > tamanho;
+        List<TaskResponseDTO> pagina = temMais ? tasks.subList(0, tamanho) : tasks;
+        statusWriteBehind.applyPending(pagina);
+        String proximoCursor = temMais ? TaskCursor.encode(pagina.get(pagina.size() - 1).getIdTask()) : null;
+
+        return new TaskPageResponseDTO(pagina, proximoCursor, tamanho);
+    }
+
+    // * páginas por id, cada uma na sua transação de leitura: um cliente lento não segura o snapshot
+    // * (sem WAL, uma leitura aberta travaria as escritas até o fim do download); só uma página fica em memória
+    public long exportarTasks(OutputStream destino, boolean gzip) throws IOException {
+        Stream<TaskResponseDTO> tasks = NdjsonWriter.emPaginas(depoisDe -> leitura.execute(
+                status -> taskRepository.findPageProjected(depoisDe, Limit.of(NdjsonWriter.LINHAS_POR_PAGINA))),
+                TaskResponseDTO::getIdTask);
+        return ndjsonWriter.escrever(tasks.map(this::comStatusPendente), destino, gzip);
+    }
+
+    private TaskResponseDTO comStatusPendente(TaskResponseDTO task) {
+        statusWriteBehind.applyPending(task);
+        return task;
     }
 
     @Transactional
     public TaskResponseDTO atualizarStatus(Long id, UpdateTaskStatusDTO dto) {
+        return atualizarStatus(id, dto, null);
+    }
+
+    // * If-Match com o ETag lido antes: se a task mudou nesse meio tempo, 412 em vez de sobrescrever
+    @Transactional
+    public TaskResponseDTO atualizarStatus(Long id, UpdateTaskStatusDTO dto, String ifMatch) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+        if (!TableVersions.corresponde(ifMatch, etagTask(id, task.getVersion(), null))) {
+            throw new PreconditionFailedException("A task com ID " + id + " foi alterada por outra requisição");
+        }
+        Status anterior = task.getStatus();
         task.setStatus(dto.getStatus());
-        Task taskAtualizada = taskRepository.save(task);
-        return taskMapper.toResponse(taskAtualizada);
+        // * o UPDATE confere a versão; uma escrita concorrente vira conflito aqui, e não no commit
+        Task taskAtualizada = taskRepository.saveAndFlush(task);
+        projectTaskCounters.statusAlterado(task.getProject().getId(), anterior, dto.getStatus());
+        tableVersions.alterada(Tabela.TASKS);
+
+        TaskResponseDTO resposta = taskMapper.toResponse(taskAtualizada);
+        eventPublisher.publishEvent(TaskChangedEvent.statusAlterado(resposta, anterior));
+        return resposta;
+    }
+
+    // * uma leitura projetada (sem entidades) para contar e notificar e um único UPDATE pelos ids selecionados
+    @Transactional
+    public TaskStatusBulkResponseDTO atualizarStatusEmMassa(TaskStatusBulkRequestDTO dto) {
+        if (dto.semSelecao()) {
+            throw new BadRequestException("Informe ids ou ao menos um filtro (idProject, currentStatus, priority)");
+        }
+        if (dto.getIds() != null && dto.getIds().size() > LIMITE_EM_MASSA) {
+            throw new BadRequestException("Informe no máximo " + LIMITE_EM_MASSA + " ids");
+        }
+        // * a seleção e o status anterior precisam enxergar a fila do write-behind: ela é gravada nesta transação,
+        // * e nenhuma troca entra nem é gravada por cima até o commit
+        statusWriteBehind.gravarNaTransacao();
+
+        List<TaskResponseDTO> afetadas = taskRepository.findProjected(TaskSpecifications.transicao(dto),
+                LIMITE_EM_MASSA + 1);
+        if (afetadas.size() > LIMITE_EM_MASSA) {
+            throw new BadRequestException("A seleção passa de " + LIMITE_EM_MASSA + " tasks; refine os filtros");
+        }
+        if (afetadas.isEmpty()) {
+            return new TaskStatusBulkResponseDTO(dto.getStatus(), 0, Map.of());
+        }
+
+        List<Long> ids = afetadas.stream().map(TaskResponseDTO::getIdTask).toList();
+        int atualizadas = 0;
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_UPDATE) {
+            atualizadas += taskRepository.updateStatusIfChanged(
+                    ids.subList(inicio, Math.min(inicio + TAMANHO_UPDATE, ids.size())), dto.getStatus());
+        }
+
+        Map<Status, Integer> porStatusAnterior = new EnumMap<>(Status.class);
+        for (TaskResponseDTO task : afetadas) {
+            Status anterior = task.getStatus();
+            porStatusAnterior.merge(anterior, 1, Integer::sum);
+            task.setStatus(dto.getStatus());
+            projectTaskCounters.statusAlterado(task.getIdProject(), anterior, dto.getStatus());
+            eventPublisher.publishEvent(TaskChangedEvent.statusAlterado(task, anterior));
+        }
+        tableVersions.alterada(Tabela.TASKS);
+
+        return new TaskStatusBulkResponseDTO(dto.getStatus(), atualizadas, porStatusAnterior);
+    }
+
+    public boolean statusWriteBehindAtivo() {
+        return statusWriteBehind.isEnabled();
+    }
+
+    // * modo write-behind: confirma a partir da fila e a gravação acontece no próximo lote
+    public TaskResponseDTO agendarStatus(Long id, UpdateTaskStatusDTO dto) {
+        return agendarStatus(id, dto, null);
+    }
+
+    // * sem transação: cada volta lê o banco atual. O status anterior e o If-Match são conferidos na própria troca
+    // * da fila, então duas requisições simultâneas não contam a mesma transição nem passam com o mesmo ETag
+    public TaskResponseDTO agendarStatus(Long id, UpdateTaskStatusDTO dto, String ifMatch) {
+        while (true) {
+            long lote = statusWriteBehind.lotesGravados();
+            // * só tb_task: o flush da fila não alcança tb_task_archive, então a arquivada é 404 como no modo síncrono
+            TaskResponseDTO task = taskRepository.findProjectedById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+            Long versao = ifMatch == null ? null : taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+
+            Optional<Status> anterior = statusWriteBehind.trocar(id, dto.getStatus(), task.getStatus(), lote,
+                    pendente -> {
+                        if (versao != null && !TableVersions.corresponde(ifMatch, etagTask(id, versao, pendente))) {
+                            throw new PreconditionFailedException(
+                                    "A task com ID " + id + " foi alterada por outra requisição");
+                        }
+                    });
+            // * vazio: um lote foi gravado entre a leitura e a troca, então lê de novo
+            if (anterior.isPresent()) {
+                task.setStatus(dto.getStatus());
+                projectTaskCounters.statusAlterado(task.getIdProject(), anterior.get(), dto.getStatus());
+                tableVersions.alterada(Tabela.TASKS);
+                eventPublisher.publishEvent(TaskChangedEvent.statusAlterado(task, anterior.get()));
+                return task;
+            }
+        }
     }
 
     @Transactional
     public void deletarTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task com ID " + id + " não encontrada."));
+        // * as dependências saem antes da task por causa das FKs; o grafo em memória acompanha pelo evento
+        taskDependencyRepository.deleteByTaskIds(List.of(id));
         taskRepository.delete(task);
+        Status pendente = statusWriteBehind.discard(id);
+        Status atual = pendente != null ? pendente : task.getStatus();
+        projectTaskCounters.taskRemovida(task.getProject().getId(), atual, task.getPriority());
+        tableVersions.alterada(Tabela.TASKS);
+        eventPublisher.publishEvent(TaskChangedEvent.removida(new TaskResponseDTO(task.getId(), task.getTitle(),
+                task.getDescription(), atual, task.getPriority(), task.getDueDate(), task.getProject().getId())));
     }
 }
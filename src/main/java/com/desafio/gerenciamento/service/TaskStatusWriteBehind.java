@@ -0,0 +1,292 @@
+package com.desafio.gerenciamento.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// * fila de atualizações de status: a última escrita por task vence e uma única thread grava em lotes,
+// * uma transação por tenant
+@Component
+public class TaskStatusWriteBehind implements MeterBinder {
+
+    // * fila de um tenant; lotes conta os lotes já gravados, para quem leu o banco saber se a leitura ainda vale.
+    // * Trocas e o escritor ficam com a leitura da trava; uma escrita em massa fica com a escrita até o commit
+    private static final class Fila {
+        final ConcurrentHashMap<Long, Status> pendentes = new ConcurrentHashMap<>();
+        final AtomicLong lotes = new AtomicLong();
+        final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatusWriteBehind.class);
+
+    private static final int TAMANHO_CONSULTA = 500;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final Duration intervalo;
+    private final int tamanhoLote;
+
+    private final ConcurrentHashMap<String, Fila> porTenant = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushAgendado = new AtomicBoolean();
+    private final ScheduledExecutorService escritor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "task-status-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TaskStatusWriteBehind(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.tasks.write-behind.enabled:false}") boolean habilitado,
+            @Value("${app.tasks.write-behind.flush-interval:500ms}") Duration intervalo,
+            @Value("${app.tasks.write-behind.batch-size:1000}") int tamanhoLote) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.intervalo = intervalo;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        if (habilitado) {
+            escritor.scheduleWithFixedDelay(this::flush, intervalo.toMillis(), intervalo.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        escritor.shutdown();
+        escritor.awaitTermination(intervalo.toMillis() * 2, TimeUnit.MILLISECONDS);
+        // * grava o que sobrou antes de fechar o contexto
+        flush();
+    }
+
+    public boolean isEnabled() {
+        return habilitado;
+    }
+
+    public int pendingCount() {
+        int total = 0;
+        for (Fila fila : porTenant.values()) {
+            total += fila.pendentes.size();
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.tasks.write_behind.pending", this, TaskStatusWriteBehind::pendingCount)
+                .description("Atualizações de status aguardando gravação")
+                .register(registry);
+    }
+
+    public void enqueue(Long id, Status status) {
+        Fila fila = fila();
+        fila.pendentes.put(id, status);
+        agendarSeCheia(fila);
+    }
+
+    public long lotesGravados() {
+        Fila fila = porTenant.get(TenantContext.atual());
+        return fila == null ? 0 : fila.lotes.get();
+    }
+
+    // * lê o status efetivo, confere e enfileira numa única operação por task: duas trocas simultâneas da mesma task
+    // * não partem do mesmo status anterior. conferir recebe o status ainda na fila (ou null) e lança para desistir.
+    // * Devolve o status anterior (o da fila ou lidoNoBanco); vazio se um lote foi gravado depois de lotesGravados()
+    // * valer lote, quando o que foi lido do banco pode estar velho e precisa ser lido de novo
+    public Optional<Status> trocar(Long id, Status novo, Status lidoNoBanco, long lote, Consumer<Status> conferir) {
+        Fila fila = fila();
+        Status[] anterior = new Status[1];
+        fila.trava.readLock().lock();
+        try {
+            fila.pendentes.compute(id, (chave, pendente) -> {
+                if (fila.lotes.get() != lote) {
+                    return pendente;
+                }
+                conferir.accept(pendente);
+                anterior[0] = pendente != null ? pendente : lidoNoBanco;
+                return novo;
+            });
+        } finally {
+            fila.trava.readLock().unlock();
+        }
+        if (anterior[0] != null) {
+            agendarSeCheia(fila);
+        }
+        return Optional.ofNullable(anterior[0]);
+    }
+
+    private void agendarSeCheia(Fila fila) {
+        if (fila.pendentes.size() >= tamanhoLote && flushAgendado.compareAndSet(false, true)) {
+            escritor.execute(this::flush);
+        }
+    }
+
+    // * grava a fila agora, pela própria thread do escritor, e espera terminar
+    public void flushNow() {
+        if (!habilitado || pendingCount() == 0) {
+            return;
+        }
+        try {
+            escritor.submit(this::flush).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a gravação dos status pendentes", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao gravar os status pendentes", e.getCause());
+        }
+    }
+
+    // * para escritas em massa: grava o que está na fila dentro da transação atual, para que ela selecione e conte
+    // * pelo status efetivo, e segura trocas e o escritor até o fim dela. No commit as entradas gravadas saem da
+    // * fila; se a transação for desfeita, continuam lá
+    public void gravarNaTransacao() {
+        if (!habilitado) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("gravarNaTransacao precisa de uma transação ativa");
+        }
+        Fila fila = fila();
+        Lock trava = fila.trava.writeLock();
+        trava.lock();
+        Map<Long, Status> lote = new HashMap<>(fila.pendentes);
+        try {
+            atualizar(lote);
+        } catch (RuntimeException e) {
+            trava.unlock();
+            throw e;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    fila.lotes.incrementAndGet();
+                    lote.forEach(fila.pendentes::remove);
+                }
+                trava.unlock();
+            }
+        });
+    }
+
+    public Status pending(Long id) {
+        return pendentes().get(id);
+    }
+
+    // * devolve o status que estava na fila, se havia algum
+    public Status discard(Long id) {
+        Fila fila = porTenant.get(TenantContext.atual());
+        return fila == null ? null : fila.pendentes.remove(id);
+    }
+
+    // * leituras enxergam o status ainda não gravado
+    public void applyPending(TaskResponseDTO task) {
+        aplicar(pendentes(), task);
+    }
+
+    public void applyPending(List<TaskResponseDTO> tasks) {
+        Map<Long, Status> pendentes = pendentes();
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        tasks.forEach(task -> aplicar(pendentes, task));
+    }
+
+    private static void aplicar(Map<Long, Status> pendentes, TaskResponseDTO task) {
+        Status pendente = pendentes.get(task.getIdTask());
+        if (pendente != null) {
+            task.setStatus(pendente);
+        }
+    }
+
+    private Map<Long, Status> pendentes() {
+        Fila fila = porTenant.get(TenantContext.atual());
+        return fila == null ? Map.of() : fila.pendentes;
+    }
+
+    private Fila fila() {
+        return porTenant.computeIfAbsent(TenantContext.atual(), tenant -> new Fila());
+    }
+
+    // * só roda na thread do escritor (ou no encerramento, depois dela parar)
+    void flush() {
+        flushAgendado.set(false);
+        porTenant.forEach((tenant, fila) -> {
+            if (!fila.pendentes.isEmpty()) {
+                TenantContext.executar(tenant, () -> gravar(fila));
+            }
+        });
+    }
+
+    // * com a leitura da trava do começo ao fim: uma escrita em massa não grava por cima nem é sobrescrita
+    private void gravar(Fila fila) {
+        fila.trava.readLock().lock();
+        try {
+            Map<Long, Status> lote = new HashMap<>(fila.pendentes);
+            if (lote.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(tx -> atualizar(lote));
+            } catch (RuntimeException e) {
+                // * mantém as entradas na fila para a próxima rodada
+                log.error("Falha ao gravar {} atualizações de status pendentes do tenant {}", lote.size(),
+                        TenantContext.atual(), e);
+                return;
+            }
+
+            // * avança o contador antes de remover: quem não achar mais a entrada já enxerga o lote novo.
+            // * Remove só se ninguém sobrescreveu o valor enquanto o lote era gravado
+            fila.lotes.incrementAndGet();
+            lote.forEach(fila.pendentes::remove);
+        } finally {
+            fila.trava.readLock().unlock();
+        }
+    }
+
+    private void atualizar(Map<Long, Status> lote) {
+        Map<Status, List<Long>> porStatus = new EnumMap<>(Status.class);
+        lote.forEach((id, status) -> porStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(id));
+        porStatus.forEach((status, ids) -> {
+            for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_CONSULTA) {
+                taskRepository.updateStatus(ids.subList(inicio, Math.min(inicio + TAMANHO_CONSULTA, ids.size())),
+                        status);
+            }
+        });
+    }
+}
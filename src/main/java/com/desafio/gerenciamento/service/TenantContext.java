@@ -0,0 +1,66 @@
+package com.desafio.gerenciamento.service;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+
+// * tenant da thread atual: definido por requisição (cabeçalho X-Tenant-Id) e pelas rotinas em segundo plano
+// * que percorrem os tenants; sem tenant definido vale o padrão, que usa o banco de spring.datasource.url
+public final class TenantContext {
+
+    public static final String PADRAO = "default";
+
+    // * o id vira nome de arquivo: sem separadores, pontos ou maiúsculas
+    private static final Pattern FORMATO = Pattern.compile("[a-z0-9][a-z0-9_-]{0,62}");
+
+    private static final ThreadLocal<String> ATUAL = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String atual() {
+        String tenant = ATUAL.get();
+        return tenant == null ? PADRAO : tenant;
+    }
+
+    public static void definir(String tenant) {
+        ATUAL.set(tenant);
+    }
+
+    public static void limpar() {
+        ATUAL.remove();
+    }
+
+    public static String validar(String tenant) {
+        if (tenant == null || tenant.isBlank()) {
+            return PADRAO;
+        }
+        if (!FORMATO.matcher(tenant).matches()) {
+            throw new BadRequestException("Tenant inválido: use até 63 letras minúsculas, dígitos, '-' ou '_'");
+        }
+        return tenant;
+    }
+
+    // * executa com outro tenant e restaura o anterior, inclusive quando a thread não tinha nenhum
+    public static <T> T executar(String tenant, Supplier<T> acao) {
+        String anterior = ATUAL.get();
+        ATUAL.set(tenant);
+        try {
+            return acao.get();
+        } finally {
+            if (anterior == null) {
+                ATUAL.remove();
+            } else {
+                ATUAL.set(anterior);
+            }
+        }
+    }
+
+    public static void executar(String tenant, Runnable acao) {
+        executar(tenant, () -> {
+            acao.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package com.desafio.gerenciamento.service;
+
+// * publicado na primeira requisição de um tenant desde a subida, antes de qualquer transação dela:
+// * os estados em memória carregam o tenant aqui, e não no meio de uma escrita
+public record TenantOpenedEvent(String tenant) {
+}
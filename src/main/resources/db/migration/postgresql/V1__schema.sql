@@ -0,0 +1,34 @@
+-- * também roda no H2 em modo PostgreSQL (perfil "h2"), então só usa SQL comum aos dois
+create sequence tb_project_seq start with 1 increment by 50;
+create sequence tb_task_seq start with 1 increment by 50;
+
+create table tb_project (
+    id bigint not null,
+    name varchar(200) not null,
+    description varchar(255),
+    start_date date not null,
+    end_date date,
+    version bigint,
+    primary key (id),
+    constraint uk_project_name unique (name)
+);
+
+create table tb_task (
+    id bigint not null,
+    title varchar(255) not null,
+    description varchar(255) not null,
+    status varchar(255) check (status in ('TODO', 'DOING', 'DONE')),
+    priority varchar(255) check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    due_date date not null,
+    project_id bigint,
+    version bigint,
+    primary key (id),
+    constraint uk_task_title unique (title),
+    constraint fk_task_project foreign key (project_id) references tb_project (id)
+);
+
+create index idx_task_project_status_priority_due on tb_task (project_id, status, priority, due_date);
+create index idx_task_status on tb_task (status);
+create index idx_task_priority on tb_task (priority);
+create index idx_task_due_status on tb_task (due_date, status);
+create index idx_task_project_due on tb_task (project_id, due_date);
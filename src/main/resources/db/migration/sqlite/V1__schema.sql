@@ -0,0 +1,35 @@
+-- * sequences emuladas por tabela (o SQLite não tem CREATE SEQUENCE); o Hibernate reserva ids de 50 em 50
+create table tb_project_seq (next_val bigint);
+insert into tb_project_seq values (1);
+
+create table tb_task_seq (next_val bigint);
+insert into tb_task_seq values (1);
+
+create table tb_project (
+    id bigint not null,
+    name varchar(200) not null unique,
+    description varchar(255),
+    start_date date not null,
+    end_date date,
+    version bigint,
+    primary key (id)
+);
+
+create table tb_task (
+    id bigint not null,
+    title varchar(255) not null unique,
+    description varchar(255) not null,
+    status varchar(255) check (status in ('TODO', 'DOING', 'DONE')),
+    priority varchar(255) check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    due_date date not null,
+    project_id bigint,
+    version bigint,
+    primary key (id),
+    foreign key (project_id) references tb_project (id)
+);
+
+create index idx_task_project_status_priority_due on tb_task (project_id, status, priority, due_date);
+create index idx_task_status on tb_task (status);
+create index idx_task_priority on tb_task (priority);
+create index idx_task_due_status on tb_task (due_date, status);
+create index idx_task_project_due on tb_task (project_id, due_date);
@@ -0,0 +1,24 @@
+-- * índice FTS5 de título/descrição das tasks, mantido por triggers em tb_task: qualquer caminho de escrita
+-- * (criação unitária, lote, remoção, troca em massa) fica sincronizado sem código nos serviços
+create virtual table if not exists tb_task_fts using fts5(
+    title, description, content='tb_task', content_rowid='id',
+    tokenize='unicode61 remove_diacritics 2', prefix='2 3');
+
+create trigger if not exists tb_task_fts_ai after insert on tb_task begin
+    insert into tb_task_fts(rowid, title, description) values (new.id, new.title, new.description);
+end;
+
+create trigger if not exists tb_task_fts_ad after delete on tb_task begin
+    insert into tb_task_fts(tb_task_fts, rowid, title, description)
+    values ('delete', old.id, old.title, old.description);
+end;
+
+-- * só título e descrição interessam ao índice; mudanças de status não tocam no FTS
+create trigger if not exists tb_task_fts_au after update of title, description on tb_task begin
+    insert into tb_task_fts(tb_task_fts, rowid, title, description)
+    values ('delete', old.id, old.title, old.description);
+    insert into tb_task_fts(rowid, title, description) values (new.id, new.title, new.description);
+end;
+
+-- * bancos que já tinham tasks antes da migração
+insert into tb_task_fts(tb_task_fts) values ('rebuild');
@@ -0,0 +1,16 @@
+-- * arquivo das tasks DONE antigas (TaskArchiver): mesmo id e mesmas colunas de tb_task, sem unique no título
+create table tb_task_archive (
+    id bigint not null,
+    title varchar(255) not null,
+    description varchar(255) not null,
+    status varchar(255),
+    priority varchar(255),
+    due_date date not null,
+    project_id bigint,
+    version bigint,
+    archived_on date not null,
+    primary key (id),
+    foreign key (project_id) references tb_project (id)
+);
+
+create index idx_task_archive_project_status_priority on tb_task_archive (project_id, status, priority);
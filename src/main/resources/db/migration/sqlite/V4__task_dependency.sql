@@ -0,0 +1,11 @@
+-- * "blocked_by_id bloqueia task_id"; as duas tasks são do mesmo projeto e o grafo não tem ciclos (TaskDependencyService)
+create table tb_task_dependency (
+    task_id bigint not null,
+    blocked_by_id bigint not null,
+    primary key (task_id, blocked_by_id),
+    foreign key (task_id) references tb_task (id),
+    foreign key (blocked_by_id) references tb_task (id)
+);
+
+-- * a chave primária cobre a busca por task_id; este cobre a remoção pelo lado de quem bloqueia
+create index idx_task_dependency_blocked_by on tb_task_dependency (blocked_by_id);
@@ -1,11 +1,25 @@
 package com.desafio.gerenciamento;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 @SpringBootTest
 class GerenciamentoApplicationTests {
 
+	// * banco descartável: o Flyway migra um arquivo temporário, não o app.db do diretório do projeto
+	@DynamicPropertySource
+	static void banco(DynamicPropertyRegistry registry) throws IOException {
+		Path diretorio = Files.createTempDirectory("gerenciamento-test");
+		registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + diretorio.resolve("app.db"));
+		registry.add("app.tenants.directory", () -> diretorio.toString());
+	}
+
 	@Test
 	void contextLoads() {
 	}
@@ -0,0 +1,99 @@
+package com.desafio.gerenciamento.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.desafio.gerenciamento.mapper.TaskMapper;
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+// * roda só com: mvn test -Dbenchmark=true -Dtest=ProjectionAllocationBenchmarkTest
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        // * H2 embutido sem migrações: o schema vem das entidades
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop" })
+class ProjectionAllocationBenchmarkTest {
+
+    private static final int PROJETOS = 50;
+    private static final int TASKS = 10_000;
+    private static final int REPETICOES = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+
+    @BeforeEach
+    void popular() {
+        Project[] projetos = new Project[PROJETOS];
+        for (int p = 0; p < PROJETOS; p++) {
+            projetos[p] = entityManager.persist(
+                    new Project("Projeto " + p, "Descrição " + p, LocalDate.of(2025, 1, 1), null));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            entityManager.persist(new Task(null, "Task " + i, "Descrição " + i,
+                    Status.values()[i % 3], Priority.values()[i % 3], LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                    projetos[i % PROJETOS]));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("A projeção aloca menos que carregar entidades e mapear com MapStruct")
+    void projecaoAlocaMenos() {
+        long entidades = bytesPorExecucao(() -> taskMapper.toResponseList(taskRepository.findAll()));
+        long projecao = bytesPorExecucao(taskRepository::findAllProjected);
+
+        System.out.printf("%d tasks: entidades + mapper = %d KB/op, projeção = %d KB/op (%.1fx)%n",
+                TASKS, entidades / 1024, projecao / 1024, (double) entidades / projecao);
+        assertTrue(projecao < entidades, "a projeção deveria alocar menos que o caminho por entidades");
+    }
+
+    private long bytesPorExecucao(Supplier<List<TaskResponseDTO>> leitura) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // * aquecimento, para não medir a compilação das consultas
+        for (int i = 0; i < 3; i++) {
+            assertEquals(TASKS, leitura.get().size());
+            entityManager.clear();
+        }
+
+        long total = 0;
+        for (int i = 0; i < REPETICOES; i++) {
+            long antes = threads.getCurrentThreadAllocatedBytes();
+            leitura.get();
+            total += threads.getCurrentThreadAllocatedBytes() - antes;
+            entityManager.clear();
+        }
+        return total / REPETICOES;
+    }
+}
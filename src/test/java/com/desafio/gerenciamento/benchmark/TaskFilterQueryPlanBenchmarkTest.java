@@ -0,0 +1,135 @@
+package com.desafio.gerenciamento.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+// * roda só com: mvn test -Dbenchmark=true -Dtest=TaskFilterQueryPlanBenchmarkTest
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskFilterQueryPlanBenchmarkTest {
+
+    private static final String CONSULTA_ANTIGA = "SELECT * FROM tb_task t "
+            + "WHERE UPPER(t.status) = UPPER(?) OR UPPER(t.priority) = UPPER(?) OR t.project_id = ?";
+
+    // * o que o filtro gera hoje para GET /tasks?idProject=X (filtros nulos não entram na consulta)
+    private static final String CONSULTA_NOVA = "SELECT * FROM tb_task t WHERE t.project_id = ?";
+
+    // * mesma forma, com match=any e os três filtros informados
+    private static final String CONSULTA_NOVA_OR = "SELECT * FROM tb_task t "
+            + "WHERE t.project_id = ? OR t.status = ? OR t.priority = ?";
+
+    private static final int PROJETOS = 200;
+    private static final int REPETICOES = 20;
+
+    @Test
+    @DisplayName("O filtro por projeto deixa de varrer tb_task conforme a tabela cresce")
+    void consultaFiltradaUsaIndice() throws SQLException {
+        System.out.printf("%10s %16s %16s%n", "linhas", "antiga (us)", "nova (us)");
+
+        for (int linhas : new int[] { 1_000, 10_000, 100_000 }) {
+            try (Connection con = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+                criarSchema(con);
+                popular(con, linhas);
+
+                assertTrue(plano(con, CONSULTA_ANTIGA).stream().anyMatch(l -> l.startsWith("SCAN")),
+                        "a consulta antiga deveria varrer a tabela");
+                assertTrue(plano(con, CONSULTA_NOVA).stream().noneMatch(l -> l.startsWith("SCAN")),
+                        "a consulta nova não deveria varrer a tabela");
+                assertTrue(plano(con, CONSULTA_NOVA_OR).stream().noneMatch(l -> l.startsWith("SCAN")),
+                        "o OR entre colunas indexadas deveria usar união de índices");
+
+                long antiga = medianaMicros(con, CONSULTA_ANTIGA, null, null, 7L);
+                long nova = medianaMicros(con, CONSULTA_NOVA, 7L);
+                System.out.printf("%10d %16d %16d%n", linhas, antiga, nova);
+            }
+        }
+    }
+
+    // * espelha o DDL que o Hibernate gera para Task, incluindo os índices declarados na entidade
+    private void criarSchema(Connection con) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("CREATE TABLE tb_task (id INTEGER PRIMARY KEY, title VARCHAR(255) NOT NULL UNIQUE, "
+                    + "description VARCHAR(255) NOT NULL, status VARCHAR(255), priority VARCHAR(255), "
+                    + "due_date DATE NOT NULL, project_id BIGINT)");
+            st.execute("CREATE INDEX idx_task_project_status_priority_due "
+                    + "ON tb_task (project_id, status, priority, due_date)");
+            st.execute("CREATE INDEX idx_task_status ON tb_task (status)");
+            st.execute("CREATE INDEX idx_task_priority ON tb_task (priority)");
+        }
+    }
+
+    private void popular(Connection con, int linhas) throws SQLException {
+        String[] status = { "TODO", "DOING", "DONE" };
+        String[] prioridades = { "LOW", "MEDIUM", "HIGH" };
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+
+        con.setAutoCommit(false);
+        try (PreparedStatement ps = con.prepareStatement("INSERT INTO tb_task "
+                + "(id, title, description, status, priority, due_date, project_id) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= linhas; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "Task " + i);
+                ps.setString(3, "Descrição " + i);
+                ps.setString(4, status[random.nextInt(status.length)]);
+                ps.setString(5, prioridades[random.nextInt(prioridades.length)]);
+                ps.setString(6, base.plusDays(random.nextInt(365)).toString());
+                ps.setLong(7, 1 + random.nextInt(PROJETOS));
+                ps.addBatch();
+                if (i % 1_000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        con.commit();
+        con.setAutoCommit(true);
+    }
+
+    private List<String> plano(Connection con, String sql) throws SQLException {
+        List<String> linhas = new ArrayList<>();
+        try (PreparedStatement ps = con.prepareStatement("EXPLAIN QUERY PLAN " + sql);
+                ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                linhas.add(rs.getString("detail"));
+            }
+        }
+        return linhas;
+    }
+
+    private long medianaMicros(Connection con, String sql, Object... parametros) throws SQLException {
+        long[] tempos = new long[REPETICOES];
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            for (int i = 0; i < parametros.length; i++) {
+                ps.setObject(i + 1, parametros[i]);
+            }
+            for (int r = 0; r < REPETICOES; r++) {
+                long inicio = System.nanoTime();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+                tempos[r] = (System.nanoTime() - inicio) / 1_000;
+            }
+        }
+        Arrays.sort(tempos);
+        return tempos[REPETICOES / 2];
+    }
+}
@@ -0,0 +1,74 @@
+package com.desafio.gerenciamento.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long LIMIAR = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long RAPIDA = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long LENTA = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve recusar acima do limite e liberar a vaga ao terminar")
+    void tentarAdquirir_RespeitaLimite() {
+        AdaptiveConcurrencyLimit limite = new AdaptiveConcurrencyLimit(2, 1, 10, LIMIAR, 0.5);
+
+        assertTrue(limite.tentarAdquirir());
+        assertTrue(limite.tentarAdquirir());
+        assertFalse(limite.tentarAdquirir());
+        assertEquals(2, limite.emAndamento());
+
+        limite.liberar(RAPIDA, false);
+        assertEquals(1, limite.emAndamento());
+        assertTrue(limite.tentarAdquirir());
+    }
+
+    @Test
+    @DisplayName("Deve crescer de 1 em 1 enquanto as respostas são rápidas e o limite está em uso")
+    void liberar_AumentaAditivamente() {
+        AdaptiveConcurrencyLimit limite = new AdaptiveConcurrencyLimit(4, 1, 5, LIMIAR, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            limite.tentarAdquirir();
+        }
+        limite.liberar(RAPIDA, false);
+        assertEquals(5, limite.limite());
+
+        limite.liberar(RAPIDA, false);
+        assertEquals(5, limite.limite(), "Não deve passar do máximo");
+    }
+
+    @Test
+    @DisplayName("Não deve crescer quando o limite está ocioso")
+    void liberar_NaoAumentaOcioso() {
+        AdaptiveConcurrencyLimit limite = new AdaptiveConcurrencyLimit(8, 1, 64, LIMIAR, 0.5);
+
+        limite.tentarAdquirir();
+        limite.liberar(RAPIDA, false);
+
+        assertEquals(8, limite.limite());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir multiplicativamente em resposta lenta ou com erro, sem passar do mínimo")
+    void liberar_ReduzMultiplicativamente() {
+        AdaptiveConcurrencyLimit limite = new AdaptiveConcurrencyLimit(8, 2, 64, LIMIAR, 0.5);
+
+        limite.tentarAdquirir();
+        limite.liberar(LENTA, false);
+        assertEquals(4, limite.limite());
+
+        limite.tentarAdquirir();
+        limite.liberar(RAPIDA, true);
+        assertEquals(2, limite.limite());
+
+        limite.tentarAdquirir();
+        limite.liberar(LENTA, true);
+        assertEquals(2, limite.limite());
+    }
+}
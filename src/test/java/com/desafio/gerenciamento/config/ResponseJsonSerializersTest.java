@@ -0,0 +1,58 @@
+package com.desafio.gerenciamento.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.response.ProjectResponseDTO;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+class ResponseJsonSerializersTest {
+
+    // * configurados como o ObjectMapper do Spring Boot (datas como texto ISO), com e sem os serializadores
+    private final ObjectMapper padrao = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper direto = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new SimpleModule()
+                    .addSerializer(new ResponseJsonSerializers.TaskSerializer())
+                    .addSerializer(new ResponseJsonSerializers.ProjectSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do Jackson padrão para tasks, inclusive com campos nulos")
+    void task_MesmoJsonQueOPadrao() throws Exception {
+        List<TaskResponseDTO> tasks = List.of(
+                new TaskResponseDTO(1L, "Deploy \"v2\"", "Linha 1\nLinha 2", Status.DOING, Priority.HIGH,
+                        LocalDate.of(2025, 3, 9), 7L),
+                new TaskResponseDTO(2L, "Sem dados", null, null, null, null, null),
+                new TaskResponseDTO(3L, "Ano longo", "x", Status.DONE, Priority.LOW, LocalDate.of(12025, 12, 31), 1L));
+
+        assertEquals(padrao.readTree(padrao.writeValueAsString(tasks)),
+                padrao.readTree(direto.writeValueAsString(tasks)));
+        assertTrue(direto.writeValueAsString(tasks.get(0)).contains("\"status\":\"DOING\""));
+        assertTrue(direto.writeValueAsString(tasks.get(0)).contains("\"dueDate\":\"2025-03-09\""));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do Jackson padrão para projetos")
+    void projeto_MesmoJsonQueOPadrao() throws Exception {
+        List<ProjectResponseDTO> projetos = List.of(
+                new ProjectResponseDTO(1L, "Projeto", "Descrição", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 10, 20)),
+                new ProjectResponseDTO(2L, "Aberto", null, LocalDate.of(999, 1, 1), null));
+
+        assertEquals(padrao.readTree(padrao.writeValueAsString(projetos)),
+                padrao.readTree(direto.writeValueAsString(projetos)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.desafio.gerenciamento.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import com.desafio.gerenciamento.handler.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantDataSourcesTest {
+
+    @TempDir
+    Path diretorio;
+
+    private TenantDataSources tenants;
+
+    private TenantDataSources criar(boolean criarNovos, int maximo) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setDriverClassName("org.sqlite.JDBC");
+        properties.setUrl("jdbc:sqlite:" + diretorio.resolve("app.db"));
+        tenants = new TenantDataSources(properties, Map.of(), diretorio, criarNovos, maximo, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1),
+                List.of("classpath:db/migration/sqlite"), false, new SimpleMeterRegistry());
+        return tenants;
+    }
+
+    @AfterEach
+    void fechar() {
+        tenants.close();
+    }
+
+    @Test
+    @DisplayName("Sem auto-create deve aceitar só tenants com arquivo")
+    void aceita_SoComArquivo() throws Exception {
+        criar(false, 10);
+        Files.createFile(diretorio.resolve("existente.db"));
+
+        assertTrue(tenants.aceita("existente"));
+        assertFalse(tenants.aceita("novo"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 o tenant que passaria do limite, sem criar o arquivo")
+    void dataSource_LimiteDeTenants() {
+        criar(true, 1);
+
+        assertNotNull(tenants.dataSource("time-a"));
+        assertThrows(ServiceOverloadedException.class, () -> tenants.dataSource("time-b"));
+        assertFalse(Files.exists(diretorio.resolve("time-b.db")));
+        assertNotNull(tenants.dataSource("time-a"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.desafio.gerenciamento.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.ResourceNotFoundException;
+import com.desafio.gerenciamento.handler.ServiceOverloadedException;
+import com.desafio.gerenciamento.service.TenantContext;
+import com.desafio.gerenciamento.service.TenantOpenedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class TenantInterceptorTest {
+
+    @Mock
+    private TenantDataSources tenants;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TenantInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new TenantInterceptor(tenants, eventPublisher, "X-Tenant-Id");
+    }
+
+    @AfterEach
+    void limpar() {
+        TenantContext.limpar();
+    }
+
+    private MockHttpServletRequest requisicao(String tenant) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        if (tenant != null) {
+            request.addHeader("X-Tenant-Id", tenant);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("Deve definir o tenant do cabeçalho, avisar só na primeira requisição e limpar ao terminar")
+    void preHandle_DefineTenant() {
+        when(tenants.aceita("acme")).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(requisicao("acme"), response, null);
+        assertEquals("acme", TenantContext.atual());
+        assertEquals("X-Tenant-Id", response.getHeader("Vary"));
+
+        interceptor.afterCompletion(requisicao("acme"), response, null, null);
+        assertEquals(TenantContext.PADRAO, TenantContext.atual());
+
+        interceptor.preHandle(requisicao("acme"), new MockHttpServletResponse(), null);
+        verify(eventPublisher, times(1)).publishEvent(new TenantOpenedEvent("acme"));
+    }
+
+    @Test
+    @DisplayName("Sem cabeçalho deve usar o tenant padrão")
+    void preHandle_SemCabecalho() {
+        when(tenants.aceita(TenantContext.PADRAO)).thenReturn(true);
+
+        interceptor.preHandle(requisicao(null), new MockHttpServletResponse(), null);
+
+        assertEquals(TenantContext.PADRAO, TenantContext.atual());
+    }
+
+    @Test
+    @DisplayName("Deve recusar id inválido com 400 e tenant desconhecido com 404")
+    void preHandle_Recusa() {
+        assertThrows(BadRequestException.class,
+                () -> interceptor.preHandle(requisicao("../app"), new MockHttpServletResponse(), null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> interceptor.preHandle(requisicao("novo"), new MockHttpServletResponse(), null));
+
+        assertEquals(TenantContext.PADRAO, TenantContext.atual());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Acima do limite de tenants deve responder 503 sem definir o tenant nem avisar os ouvintes")
+    void preHandle_LimiteDeTenants() {
+        when(tenants.aceita("novo")).thenReturn(true);
+        when(tenants.dataSource("novo")).thenThrow(new ServiceOverloadedException("Limite de 1 tenants abertos atingido"));
+
+        assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(requisicao("novo"), new MockHttpServletResponse(), null));
+
+        assertEquals(TenantContext.PADRAO, TenantContext.atual());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,106 @@
+package com.desafio.gerenciamento.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// * requisições HTTP de verdade contra um SQLite temporário: quem decide entre os dois INSERTs é o unique do banco
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DuplicateSubmissionTest {
+
+    private static final int RODADAS = 5;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) throws IOException {
+        Path diretorio = Files.createTempDirectory("gerenciamento-duplicadas");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + diretorio.resolve("app.db"));
+        registry.add("app.tenants.directory", () -> diretorio.toString());
+        // * como no perfil prod: sem o gate, duas escritas no SQLite sem WAL podem se travar (SQLITE_BUSY)
+        registry.add("app.sqlite.gate.enabled", () -> "true");
+        registry.add("spring.jpa.open-in-view", () -> "false");
+    }
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    @DisplayName("Dois POST /tasks simultâneos com o mesmo título: um 201 e um 409")
+    void criarTask_DuplicadaSimultanea() throws Exception {
+        Map<?, ?> projeto = rest.postForObject("/projects",
+                Map.of("name", "Projeto das duplicadas", "startDate", "2025-01-01"), Map.class);
+        Object idProject = projeto.get("id");
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            Map<String, Object> task = Map.of("title", "Task duplicada " + rodada, "description", "Desc",
+                    "status", "TODO", "priority", "HIGH", "dueDate", "2025-12-31", "idProject", idProject);
+
+            List<ResponseEntity<String>> respostas = simultaneas(
+                    () -> rest.postForEntity("/tasks", task, String.class));
+
+            assertEquals(201, respostas.get(0).getStatusCode().value(), respostas.get(0).getBody());
+            assertEquals(409, respostas.get(1).getStatusCode().value(), respostas.get(1).getBody());
+            assertTrue(respostas.get(1).getBody().contains("Essa task já existe!"));
+        }
+    }
+
+    @Test
+    @DisplayName("Dois POST /projects simultâneos com o mesmo nome: um 201 e um 409")
+    void criarProjeto_DuplicadoSimultaneo() throws Exception {
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            Map<String, Object> projeto = Map.of("name", "Projeto duplicado " + rodada, "startDate", "2025-01-01");
+
+            List<ResponseEntity<String>> respostas = simultaneas(
+                    () -> rest.postForEntity("/projects", projeto, String.class));
+
+            assertEquals(201, respostas.get(0).getStatusCode().value(), respostas.get(0).getBody());
+            assertEquals(409, respostas.get(1).getStatusCode().value(), respostas.get(1).getBody());
+            assertTrue(respostas.get(1).getBody().contains("Projeto com o nome Projeto duplicado " + rodada + " já existe!"));
+        }
+    }
+
+    // * as duas saem juntas depois da largada; devolve as respostas ordenadas por status
+    private static List<ResponseEntity<String>> simultaneas(Supplier<ResponseEntity<String>> requisicao)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<ResponseEntity<String>>> futuros = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return requisicao.get();
+                }));
+            }
+            largada.countDown();
+
+            List<ResponseEntity<String>> respostas = new ArrayList<>();
+            for (Future<ResponseEntity<String>> futuro : futuros) {
+                respostas.add(futuro.get());
+            }
+            respostas.sort(Comparator.comparingInt(resposta -> resposta.getStatusCode().value()));
+            return respostas;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
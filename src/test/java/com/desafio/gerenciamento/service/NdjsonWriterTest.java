@@ -0,0 +1,93 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class NdjsonWriterTest {
+
+    // * como o ObjectMapper do Spring Boot: datas como texto ISO
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build());
+
+    private Stream<TaskResponseDTO> tasks(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(i -> new TaskResponseDTO((long) i, "Task " + i, "Desc",
+                Status.TODO, Priority.LOW, LocalDate.of(2025, 1, 1), 1L));
+    }
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha")
+    void escrever_UmaLinhaPorRegistro() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long total = ndjsonWriter.escrever(tasks(3), saida, false);
+
+        List<String> linhas = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, total);
+        assertEquals(3, linhas.size());
+        assertTrue(linhas.get(0).startsWith("{") && linhas.get(0).contains("\"idTask\":0"));
+        assertTrue(linhas.get(2).contains("\"dueDate\":\"2025-01-01\""));
+        assertTrue(saida.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    @DisplayName("Deve comprimir a saída quando pedido gzip")
+    void escrever_Gzip() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long total = ndjsonWriter.escrever(tasks(NdjsonWriter.LINHAS_POR_FLUSH + 1), saida, true);
+
+        byte[] descomprimido = new GZIPInputStream(new ByteArrayInputStream(saida.toByteArray())).readAllBytes();
+        assertEquals(NdjsonWriter.LINHAS_POR_FLUSH + 1, total);
+        assertEquals(total, new String(descomprimido, StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    @DisplayName("Deve ler a próxima página só depois de escrever a anterior, a partir do último id")
+    void emPaginas_SobDemanda() throws IOException {
+        int quantidade = 2 * NdjsonWriter.LINHAS_POR_PAGINA + 1;
+        List<Long> pedidas = new ArrayList<>();
+        Stream<TaskResponseDTO> paginas = NdjsonWriter.emPaginas(depoisDe -> {
+            pedidas.add(depoisDe);
+            return tasks(quantidade).filter(task -> task.getIdTask() > depoisDe)
+                    .limit(NdjsonWriter.LINHAS_POR_PAGINA).toList();
+        }, TaskResponseDTO::getIdTask);
+
+        assertEquals(List.of(0L), pedidas);
+
+        long total = ndjsonWriter.escrever(paginas, new ByteArrayOutputStream(), false);
+
+        // * ids de 0 a 2000: o 0 fica de fora (nenhum id gerado é 0) e a terceira página, vazia, encerra
+        assertEquals(quantidade - 1, total);
+        assertEquals(List.of(0L, (long) NdjsonWriter.LINHAS_POR_PAGINA, 2L * NdjsonWriter.LINHAS_POR_PAGINA), pedidas);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o Accept-Encoding do cliente")
+    void aceitaGzip() {
+        assertTrue(NdjsonWriter.aceitaGzip("gzip, deflate, br"));
+        assertTrue(NdjsonWriter.aceitaGzip("br;q=1.0, GZIP;q=0.5"));
+        assertFalse(NdjsonWriter.aceitaGzip("gzip;q=0"));
+        assertFalse(NdjsonWriter.aceitaGzip("deflate"));
+        assertFalse(NdjsonWriter.aceitaGzip(null));
+    }
+}
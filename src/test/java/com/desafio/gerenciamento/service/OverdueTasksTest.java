@@ -0,0 +1,83 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTasksTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private OverdueTasks overdueTasks;
+
+    private TaskResponseDTO task(Long id, Status status, LocalDate dueDate, Long idProject) {
+        return new TaskResponseDTO(id, "Task " + id, "Desc", status, null, dueDate, idProject);
+    }
+
+    private List<Long> ids(List<TaskResponseDTO> tasks) {
+        return tasks.stream().map(TaskResponseDTO::getIdTask).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findOpenDueBefore(HOJE)).thenReturn(List.of(
+                task(1L, Status.TODO, HOJE.minusDays(5), 1L),
+                task(2L, Status.DOING, HOJE.minusDays(1), 2L)));
+        overdueTasks = new OverdueTasks(taskRepository, true);
+        overdueTasks.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve listar as vencidas por data de entrega, no geral e por projeto")
+    void listar_OrdenadoPorEntrega() {
+        assertEquals(List.of(1L, 2L), ids(overdueTasks.listar(null)));
+        assertEquals(List.of(2L), ids(overdueTasks.listar(2L)));
+        assertTrue(overdueTasks.listar(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ajustar o conjunto a partir das escritas sem consultar o banco")
+    void aoAlterar_AtualizaConjunto() {
+        overdueTasks.aoAlterar(TaskChangedEvent.statusAlterado(task(1L, Status.DONE, HOJE.minusDays(5), 1L), Status.TODO));
+        overdueTasks.aoAlterar(TaskChangedEvent.criada(task(3L, Status.TODO, HOJE.minusDays(10), 2L)));
+        overdueTasks.aoAlterar(TaskChangedEvent.criada(task(4L, Status.TODO, HOJE.plusDays(1), 2L)));
+        overdueTasks.aoAlterar(TaskChangedEvent.removida(task(2L, Status.DOING, HOJE.minusDays(1), 2L)));
+
+        assertEquals(List.of(3L), ids(overdueTasks.listar(null)));
+        assertEquals(List.of(3L), ids(overdueTasks.listar(2L)));
+        assertTrue(overdueTasks.listar(1L).isEmpty());
+        verify(taskRepository, times(1)).findOpenDueBefore(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar só a fatia que venceu desde a última virada de dia")
+    void atualizar_Incremental() {
+        overdueTasks.atualizar(HOJE);
+        verify(taskRepository, never()).findOpenDueBetween(any(), any());
+
+        when(taskRepository.findOpenDueBetween(HOJE, HOJE.plusDays(1)))
+                .thenReturn(List.of(task(5L, Status.TODO, HOJE, 1L)));
+
+        overdueTasks.atualizar(HOJE.plusDays(2));
+
+        assertEquals(List.of(1L, 2L, 5L), ids(overdueTasks.listar(null)));
+        assertEquals(3, overdueTasks.tamanho());
+    }
+}
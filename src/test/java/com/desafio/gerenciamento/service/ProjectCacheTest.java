@@ -0,0 +1,58 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.response.ProjectCacheStatsDTO;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCacheTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectCache projectCache;
+
+    @BeforeEach
+    void setUp() {
+        projectCache = new ProjectCache(projectRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco só na primeira checagem por id")
+    void existsById_UsaCache() {
+        when(projectRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(projectCache.existsById(1L));
+        assertTrue(projectCache.existsById(1L));
+        assertTrue(projectCache.existsById(1L));
+
+        verify(projectRepository, times(1)).existsById(1L);
+        ProjectCacheStatsDTO stats = projectCache.stats();
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o \"não existe\": o projeto pode ser criado logo depois")
+    void existsById_NaoGuardaAusente() {
+        when(projectRepository.existsById(7L)).thenReturn(false, false, true);
+
+        assertFalse(projectCache.existsById(7L));
+        assertFalse(projectCache.existsById(7L));
+        assertTrue(projectCache.existsById(7L));
+        assertTrue(projectCache.existsById(7L));
+
+        verify(projectRepository, times(3)).existsById(7L);
+    }
+}
@@ -3,12 +3,14 @@ package com.desafio.gerenciamento.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
 import com.desafio.gerenciamento.mapper.ProjectMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -29,6 +31,15 @@ class ProjectServiceTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private ProjectCache projectCache;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private TableVersions tableVersions;
+
     @InjectMocks // * criar uma instancia da nossa classe de service, injetando os mocks, como o
                  // repository
     private ProjectService projectService;
@@ -60,11 +71,9 @@ class ProjectServiceTest {
         responseDTO.setStartDate(dto.getStartDate());
         responseDTO.setEndDate(dto.getEndDate());
 
-        when(projectRepository.findByName(dto.getName())).thenReturn(null);
-
         when(projectMapper.toEntity(dto)).thenReturn(projetoMapeado);
 
-        when(projectRepository.save(projetoMapeado)).thenReturn(projetoSalvo);
+        when(projectRepository.saveAndFlush(projetoMapeado)).thenReturn(projetoSalvo);
 
         when(projectMapper.toResponse(projetoSalvo)).thenReturn(responseDTO);
 
@@ -78,8 +87,10 @@ class ProjectServiceTest {
         assertEquals(1L, resultado.getId());
 
         verify(projectMapper, times(1)).toEntity(dto);
-        verify(projectRepository, times(1)).save(projetoMapeado);
+        verify(projectRepository, times(1)).saveAndFlush(projetoMapeado);
         verify(projectMapper, times(1)).toResponse(projetoSalvo);
+        verify(projectTaskCounters).projetoCriado(1L);
+        verify(tableVersions).alterada(TableVersions.Tabela.PROJECTS);
     }
 
     @Test
@@ -91,35 +102,25 @@ class ProjectServiceTest {
         dtoComNomeExistente.setStartDate(LocalDate.parse("2020-03-21"));
         dtoComNomeExistente.setEndDate(LocalDate.parse("2024-03-21"));
 
-        Project projetoExistente = new Project(
-                nomeProjeto,
-                "Alguma descrição",
-                LocalDate.now(),
-                LocalDate.now());
-        when(projectRepository.findByName(nomeProjeto)).thenReturn(projetoExistente);
+        Project projetoMapeado = new Project();
+        when(projectMapper.toEntity(dtoComNomeExistente)).thenReturn(projetoMapeado);
+        when(projectRepository.saveAndFlush(projetoMapeado)).thenThrow(new DataIntegrityViolationException("insert",
+                new SQLException("Unique index or primary key violation", "23505")));
 
         ProjectExists exception = assertThrows(ProjectExists.class,
                 () -> projectService.criarProjeto(dtoComNomeExistente));
         assertEquals("Projeto com o nome " + nomeProjeto + " já existe!", exception.getMessage());
+        verify(projectRepository, never()).findByName(any());
     }
 
     @Test
     void listarProjetos_RetornaListaDeProjetos() {
-        Project project1 = new Project("ProjA", "DescA", LocalDate.now(), LocalDate.now().plusMonths(6));
-        Project project2 = new Project("ProjB", "DescB", LocalDate.now(), LocalDate.now().plusYears(1));
-        List<Project> projetosMock = List.of(project1, project2);
-
-        ProjectResponseDTO dto1 = new ProjectResponseDTO();
-        dto1.setName("ProjA");
-
-        ProjectResponseDTO dto2 = new ProjectResponseDTO();
-        dto2.setName("ProjB");
+        ProjectResponseDTO dto1 = new ProjectResponseDTO(1L, "ProjA", "DescA", LocalDate.now(), LocalDate.now().plusMonths(6));
+        ProjectResponseDTO dto2 = new ProjectResponseDTO(2L, "ProjB", "DescB", LocalDate.now(), LocalDate.now().plusYears(1));
 
         List<ProjectResponseDTO> dtosMock = List.of(dto1, dto2);
 
-        when(projectRepository.findAll()).thenReturn(projetosMock);
-
-        when(projectMapper.toResponseList(projetosMock)).thenReturn(dtosMock);
+        when(projectRepository.findAllProjected()).thenReturn(dtosMock);
 
         List<ProjectResponseDTO> resultado = projectService.listarProjetos();
 
@@ -127,11 +128,14 @@ class ProjectServiceTest {
         assertEquals(2, resultado.size(), "O tamanho da lista deve ser 2");
         assertEquals("ProjA", resultado.get(0).getName());
         assertEquals("ProjB", resultado.get(1).getName());
+        // * a leitura é projetada direto no DTO, sem passar pelas entidades nem pelo mapper
+        verify(projectRepository, never()).findAll();
+        verifyNoInteractions(projectMapper);
     }
     @Test
     void listarProjetos_LancaExcecaoQuandoNaoEncontraProjetos() {
-        List<Project> listaVazia = Collections.emptyList();
-        when(projectRepository.findAll()).thenReturn(listaVazia);
+        List<ProjectResponseDTO> listaVazia = Collections.emptyList();
+        when(projectRepository.findAllProjected()).thenReturn(listaVazia);
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> projectService.listarProjetos());
@@ -139,4 +143,13 @@ class ProjectServiceTest {
         assertEquals("Nenhum projeto encontrado!", ex.getMessage());
     }
 
-}
\ No newline at end of file
+    @Test
+    void estatisticas_ProjetoInexistente() {
+        when(projectTaskCounters.doProjeto(99L)).thenReturn(null);
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> projectService.estatisticas(99L));
+        assertEquals("Projeto com ID 99 não encontrado", ex.getMessage());
+        verifyNoInteractions(projectRepository);
+    }
+}
@@ -0,0 +1,112 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.desafio.gerenciamento.model.Priority;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.ProjectStatsDTO;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectTaskCountersTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    private ProjectTaskCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(taskRepository.countByProjectStatusPriority()).thenReturn(List.of(
+                new Object[] { 1L, Status.TODO, Priority.HIGH, 3L },
+                new Object[] { 1L, Status.DONE, Priority.LOW, 2L }));
+        counters = new ProjectTaskCounters(projectRepository, taskRepository, taskArchiveRepository, true);
+        counters.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve somar as tasks arquivadas às contagens do projeto")
+    void carregar_IncluiArquivadas() {
+        when(taskArchiveRepository.countByProjectStatusPriority()).thenReturn(List.<Object[]>of(
+                new Object[] { 1L, Status.DONE, Priority.LOW, 4L }));
+        ProjectTaskCounters comArquivo = new ProjectTaskCounters(projectRepository, taskRepository,
+                taskArchiveRepository, true);
+        comArquivo.carregar();
+
+        assertEquals(new ProjectStatsDTO(1L, 9, 3, 0, 6, 6, 0, 3), comArquivo.doProjeto(1L));
+    }
+
+    @Test
+    @DisplayName("Sem estado em memória deve contar no banco a cada leitura e ignorar as escritas")
+    void semMemoria_ContaNoBanco() {
+        ProjectTaskCounters semMemoria = new ProjectTaskCounters(projectRepository, taskRepository,
+                taskArchiveRepository, false);
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.countByProjectStatusPriority(1L)).thenReturn(List.<Object[]>of(
+                new Object[] { 1L, Status.TODO, Priority.HIGH, 3L }));
+
+        semMemoria.taskCriada(1L, Status.DONE, Priority.LOW);
+
+        assertEquals(new ProjectStatsDTO(1L, 3, 3, 0, 0, 0, 0, 3), semMemoria.doProjeto(1L));
+        assertNull(semMemoria.doProjeto(3L));
+    }
+
+    @Test
+    @DisplayName("Deve carregar as contagens do banco na subida")
+    void carregar_ReconstroiContagens() {
+        assertEquals(new ProjectStatsDTO(1L, 5, 3, 0, 2, 2, 0, 3), counters.doProjeto(1L));
+        assertEquals(new ProjectStatsDTO(2L, 0, 0, 0, 0, 0, 0, 0), counters.doProjeto(2L));
+        assertNull(counters.doProjeto(3L));
+        assertEquals(List.of(1L, 2L), counters.todos().stream().map(ProjectStatsDTO::idProject).toList());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar as contagens a cada escrita sem consultar o banco")
+    void escritas_AtualizamIncrementalmente() {
+        counters.taskCriada(2L, Status.TODO, Priority.MEDIUM);
+        counters.statusAlterado(2L, Status.TODO, Status.DOING);
+        counters.taskCriada(2L, Status.DONE, Priority.HIGH);
+        counters.taskRemovida(1L, Status.TODO, Priority.HIGH);
+        counters.projetoCriado(3L);
+
+        assertEquals(new ProjectStatsDTO(2L, 2, 0, 1, 1, 0, 1, 1), counters.doProjeto(2L));
+        assertEquals(new ProjectStatsDTO(1L, 4, 2, 0, 2, 2, 0, 2), counters.doProjeto(1L));
+        assertEquals(0, counters.doProjeto(3L).total());
+        verify(taskRepository, times(1)).countByProjectStatusPriority();
+    }
+
+    @Test
+    @DisplayName("Deve carregar e atualizar as contagens de cada tenant no próprio mapa")
+    void tenants_ContagensSeparadas() {
+        when(projectRepository.findAllIds()).thenReturn(List.of(1L));
+        when(taskRepository.countByProjectStatusPriority()).thenReturn(List.<Object[]>of(
+                new Object[] { 1L, Status.DOING, Priority.MEDIUM, 1L }));
+
+        counters.aoAbrirTenant(new TenantOpenedEvent("acme"));
+        TenantContext.executar("acme", () -> counters.taskCriada(1L, Status.TODO, Priority.LOW));
+
+        assertEquals(new ProjectStatsDTO(1L, 2, 1, 1, 0, 1, 1, 0),
+                TenantContext.executar("acme", () -> counters.doProjeto(1L)));
+        assertEquals(new ProjectStatsDTO(1L, 5, 3, 0, 2, 2, 0, 3), counters.doProjeto(1L));
+        assertEquals(List.of(1L, 2L), counters.todos().stream().map(ProjectStatsDTO::idProject).toList());
+    }
+}
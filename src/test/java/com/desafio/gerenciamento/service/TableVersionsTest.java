@@ -0,0 +1,57 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.desafio.gerenciamento.service.TableVersions.Tabela;
+
+class TableVersionsTest {
+
+    private final TableVersions tableVersions = new TableVersions(true);
+
+    @Test
+    @DisplayName("Deve trocar o ETag só da tabela alterada")
+    void alterada_TrocaEtag() {
+        String tasks = tableVersions.etag(Tabela.TASKS);
+        String projetos = tableVersions.etag(Tabela.PROJECTS);
+
+        tableVersions.alterada(Tabela.TASKS);
+
+        assertNotEquals(tasks, tableVersions.etag(Tabela.TASKS));
+        assertEquals(projetos, tableVersions.etag(Tabela.PROJECTS));
+        assertEquals(1, tableVersions.versao(Tabela.TASKS));
+    }
+
+    @Test
+    @DisplayName("Deve contar as alterações de cada tenant separadamente")
+    void alterada_PorTenant() {
+        TenantContext.executar("acme", () -> tableVersions.alterada(Tabela.TASKS));
+
+        assertEquals(0, tableVersions.versao(Tabela.TASKS));
+        assertEquals(1, TenantContext.executar("acme", () -> tableVersions.versao(Tabela.TASKS)));
+        assertNotEquals(tableVersions.etag(Tabela.PROJECTS),
+                TenantContext.executar("acme", () -> tableVersions.etag(Tabela.PROJECTS)));
+    }
+
+    @Test
+    @DisplayName("Desligado não deve gerar ETag de listagem")
+    void desligado_SemEtag() {
+        TableVersions desligado = new TableVersions(false);
+
+        desligado.alterada(Tabela.TASKS);
+
+        assertNull(desligado.etag(Tabela.TASKS));
+        assertEquals(0, desligado.versao(Tabela.TASKS));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar If-Match ausente, curinga, lista e ETag fraco")
+    void corresponde() {
+        assertTrue(TableVersions.corresponde(null, "\"task-1-0\""));
+        assertTrue(TableVersions.corresponde("*", "\"task-1-0\""));
+        assertTrue(TableVersions.corresponde("\"x\", W/\"task-1-0\"", "\"task-1-0\""));
+        assertFalse(TableVersions.corresponde("\"task-1-1\"", "\"task-1-0\""));
+    }
+}
@@ -0,0 +1,97 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 6, 30);
+    private static final LocalDate CORTE = HOJE.minusDays(90);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private TaskDependencyGraph dependencyGraph;
+
+    @Mock
+    private TaskStatusWriteBehind statusWriteBehind;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new TaskArchiver(taskRepository, taskArchiveRepository, taskDependencyRepository,
+                dependencyGraph, statusWriteBehind, tableVersions,
+                transactionManager, true, 90, 2);
+    }
+
+    @Test
+    @DisplayName("Deve mover em lotes até um lote vir incompleto, copiando antes de apagar")
+    void arquivar_MoveEmLotes() {
+        when(taskRepository.findArchivableIds(CORTE, Limit.of(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(5L));
+
+        int total = archiver.arquivar(HOJE);
+
+        assertEquals(3, total);
+        InOrder ordem = inOrder(statusWriteBehind, taskArchiveRepository, taskDependencyRepository, taskRepository);
+        ordem.verify(statusWriteBehind).gravarNaTransacao();
+        ordem.verify(taskRepository).findArchivableIds(CORTE, Limit.of(2));
+        ordem.verify(taskArchiveRepository).copyFromTasks(List.of(1L, 2L), HOJE);
+        ordem.verify(taskDependencyRepository).deleteByTaskIds(List.of(1L, 2L));
+        ordem.verify(taskRepository).deleteByIds(List.of(1L, 2L));
+        ordem.verify(statusWriteBehind).gravarNaTransacao();
+        ordem.verify(taskRepository).findArchivableIds(CORTE, Limit.of(2));
+        ordem.verify(taskArchiveRepository).copyFromTasks(List.of(5L), HOJE);
+        ordem.verify(taskDependencyRepository).deleteByTaskIds(List.of(5L));
+        ordem.verify(taskRepository).deleteByIds(List.of(5L));
+        verify(dependencyGraph).removerTasks(List.of(1L, 2L));
+        verify(dependencyGraph).removerTasks(List.of(5L));
+        verify(tableVersions, times(2)).alterada(TableVersions.Tabela.TASKS);
+        verify(transactionManager, times(2)).commit(any());
+        verify(statusWriteBehind, never()).flushNow();
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nada quando não há tasks para arquivar")
+    void arquivar_NadaParaArquivar() {
+        when(taskRepository.findArchivableIds(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, archiver.arquivar(HOJE));
+        verifyNoInteractions(taskArchiveRepository, taskDependencyRepository, dependencyGraph, tableVersions);
+        verify(taskRepository, never()).deleteByIds(any());
+    }
+}
@@ -0,0 +1,129 @@
+package com.desafio.gerenciamento.service;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.TaskExists;
+import com.desafio.gerenciamento.mapper.TaskMapper;
+import com.desafio.gerenciamento.model.Project;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.response.TaskBatchItemResultDTO.Result;
+import com.desafio.gerenciamento.response.TaskBatchResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    void setUp() {
+        // * lote de 2 para exercitar o flush intermediário
+        taskBatchService = new TaskBatchService(taskRepository, projectRepository, taskMapper, entityManager,
+                projectTaskCounters, tableVersions, eventPublisher, 2, 5);
+    }
+
+    private TaskRequestDTO dto(String title, Long idProject) {
+        TaskRequestDTO dto = new TaskRequestDTO();
+        dto.setTitle(title);
+        dto.setIdProject(idProject);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Deve criar as tasks válidas e reportar duplicadas e projetos inexistentes")
+    void criarTasks_ResultadoPorItem() {
+        List<TaskRequestDTO> dtos = List.of(
+                dto("Task A", 1L),
+                dto("Task Existente", 1L),
+                dto("Task B", 99L),
+                dto("Task A", 1L),
+                dto("Task C", 1L));
+
+        when(taskRepository.findExistingTitles(anyList())).thenReturn(Set.of("Task Existente"));
+        when(projectRepository.findExistingIds(anyList())).thenReturn(Set.of(1L));
+        when(taskMapper.toEntity(any(TaskRequestDTO.class))).thenAnswer(inv -> new Task());
+        when(entityManager.getReference(Project.class, 1L)).thenReturn(new Project());
+
+        TaskBatchResponseDTO resposta = taskBatchService.criarTasks(dtos);
+
+        assertEquals(2, resposta.created());
+        assertEquals(3, resposta.failed());
+        assertEquals(Result.CREATED, resposta.results().get(0).result());
+        assertEquals(Result.DUPLICATE_TITLE, resposta.results().get(1).result());
+        assertEquals(Result.PROJECT_NOT_FOUND, resposta.results().get(2).result());
+        assertEquals(Result.DUPLICATE_TITLE, resposta.results().get(3).result());
+        assertEquals(Result.CREATED, resposta.results().get(4).result());
+
+        verify(entityManager, times(2)).persist(any(Task.class));
+        verify(projectTaskCounters, times(2)).taskCriada(eq(1L), any(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+        // * um flush ao completar o lote de 2 e outro no final
+        verify(entityManager, times(2)).flush();
+        verify(taskRepository, never()).findByTitle(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lotes acima do limite configurado")
+    void criarTasks_ErroLimiteExcedido() {
+        List<TaskRequestDTO> dtos = Collections.nCopies(6, dto("Task", 1L));
+
+        assertThrows(BadRequestException.class, () -> taskBatchService.criarTasks(dtos));
+        verifyNoInteractions(taskRepository, projectRepository, entityManager);
+    }
+
+    @Test
+    @DisplayName("Deve converter o unique violado no flush em TaskExists")
+    void criarTasks_ErroTituloGravadoConcorrentemente() {
+        List<TaskRequestDTO> dtos = List.of(dto("Task A", 1L));
+
+        when(taskRepository.findExistingTitles(anyList())).thenReturn(Set.of());
+        when(projectRepository.findExistingIds(anyList())).thenReturn(Set.of(1L));
+        when(taskMapper.toEntity(any(TaskRequestDTO.class))).thenAnswer(inv -> new Task());
+        when(entityManager.getReference(Project.class, 1L)).thenReturn(new Project());
+        doThrow(new PersistenceException("flush",
+                new SQLException("[SQLITE_CONSTRAINT_UNIQUE] A UNIQUE constraint failed (UNIQUE constraint failed: tb_task.title)")))
+                .when(entityManager).flush();
+
+        assertThrows(TaskExists.class, () -> taskBatchService.criarTasks(dtos));
+        verify(entityManager, never()).clear();
+    }
+}
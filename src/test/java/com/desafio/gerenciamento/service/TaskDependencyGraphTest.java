@@ -0,0 +1,122 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDependencyGraphTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 6, 30);
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    private TaskDependencyGraph graph;
+
+    private TaskResponseDTO task(Long id, Status status, int dias) {
+        return new TaskResponseDTO(id, "Task " + id, "Desc", status, null, HOJE.plusDays(dias), 1L);
+    }
+
+    // * 1 bloqueia 2 e 4; 2 bloqueia 3
+    @BeforeEach
+    void setUp() {
+        when(taskDependencyRepository.findLinkedTasks()).thenReturn(List.of(
+                task(1L, Status.DOING, 1), task(2L, Status.TODO, 3), task(3L, Status.TODO, 5),
+                task(4L, Status.TODO, 2)));
+        when(taskDependencyRepository.findAllPairs()).thenReturn(List.of(
+                new Object[] { 2L, 1L }, new Object[] { 3L, 2L }, new Object[] { 4L, 1L }));
+        graph = new TaskDependencyGraph(taskDependencyRepository, true);
+        graph.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve recusar a dependência que fecha um ciclo, mostrando o caminho")
+    void adicionar_RecusaCiclo() {
+        BadRequestException erro = assertThrows(BadRequestException.class,
+                () -> graph.adicionar(task(1L, Status.DOING, 1), task(3L, Status.TODO, 5)));
+
+        assertEquals("A dependência criaria um ciclo: 1 -> 2 -> 3 -> 1", erro.getMessage());
+        assertEquals(List.of(2L, 1L), graph.bloqueadoresAbertos(3L));
+        assertEquals(List.of(), graph.bloqueadoresAbertos(1L));
+    }
+
+    @Test
+    @DisplayName("Sem o grafo em memória, o ciclo é procurado no banco e o caminho só é montado para a mensagem")
+    void adicionar_SemMemoria_RecusaCicloPeloBanco() {
+        TaskDependencyGraph semMemoria = new TaskDependencyGraph(taskDependencyRepository, false);
+        when(taskDependencyRepository.countReachable(3L, 1L)).thenReturn(1L);
+
+        BadRequestException erro = assertThrows(BadRequestException.class,
+                () -> semMemoria.adicionar(task(1L, Status.DOING, 1), task(3L, Status.TODO, 5)));
+
+        assertEquals("A dependência criaria um ciclo: 1 -> 2 -> 3 -> 1", erro.getMessage());
+    }
+
+    @Test
+    @DisplayName("Sem o grafo em memória, uma ligação sem ciclo não carrega o grafo")
+    void adicionar_SemMemoria_SemCiclo() {
+        TaskDependencyGraph semMemoria = new TaskDependencyGraph(taskDependencyRepository, false);
+        clearInvocations(taskDependencyRepository);
+        when(taskDependencyRepository.countReachable(4L, 3L)).thenReturn(0L);
+
+        assertTrue(semMemoria.adicionar(task(3L, Status.TODO, 5), task(4L, Status.TODO, 2)));
+        verify(taskDependencyRepository, never()).findAllPairs();
+        verify(taskDependencyRepository, never()).findLinkedTasks();
+    }
+
+    @Test
+    @DisplayName("Deve indicar se a ligação é nova e desfazê-la ao remover")
+    void adicionar_Remover() {
+        assertFalse(graph.adicionar(task(3L, Status.TODO, 5), task(2L, Status.TODO, 3)));
+        assertTrue(graph.adicionar(task(3L, Status.TODO, 5), task(4L, Status.TODO, 2)));
+        assertEquals(List.of(2L, 4L, 1L), graph.bloqueadoresAbertos(3L));
+
+        graph.remover(3L, 4L);
+
+        assertEquals(List.of(2L, 1L), graph.bloqueadoresAbertos(3L));
+    }
+
+    @Test
+    @DisplayName("Uma bloqueadora concluída não bloqueia mais, nem o que está atrás dela")
+    void bloqueadoresAbertos_IgnoraConcluidas() {
+        graph.aoAlterar(TaskChangedEvent.statusAlterado(task(2L, Status.DONE, 3), Status.TODO));
+
+        assertEquals(List.of(), graph.bloqueadoresAbertos(3L));
+        assertEquals(List.of(1L), graph.bloqueadoresAbertos(4L));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a maior cadeia de tasks abertas, da primeira bloqueadora até a última")
+    void caminhoCritico_MaiorCadeia() {
+        assertEquals(List.of(1L, 2L, 3L), graph.caminhoCritico(1L));
+        assertEquals(List.of(), graph.caminhoCritico(2L));
+
+        // * empate em tamanho: vence a cadeia que termina mais tarde
+        graph.aoAlterar(TaskChangedEvent.statusAlterado(task(3L, Status.DONE, 5), Status.TODO));
+        assertEquals(List.of(1L, 2L), graph.caminhoCritico(1L));
+    }
+
+    @Test
+    @DisplayName("Task removida sai do grafo junto com as suas dependências")
+    void aoAlterar_Removida() {
+        graph.aoAlterar(TaskChangedEvent.removida(task(2L, Status.TODO, 3)));
+
+        assertEquals(List.of(), graph.bloqueadoresAbertos(3L));
+        assertEquals(List.of(1L, 4L), graph.caminhoCritico(1L));
+    }
+}
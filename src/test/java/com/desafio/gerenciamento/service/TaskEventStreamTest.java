@@ -0,0 +1,117 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+
+class TaskEventStreamTest {
+
+    private final TaskEventStream stream = new TaskEventStream(2, Duration.ofMinutes(1));
+
+    // * registra os envios e, se pedido, trava no primeiro para simular um cliente lento
+    private static class EmitterDeTeste extends SseEmitter {
+        final List<SseEventBuilder> enviados = new CopyOnWriteArrayList<>();
+        final CountDownLatch liberar;
+        final CountDownLatch recebeu = new CountDownLatch(1);
+        volatile boolean completado;
+
+        EmitterDeTeste(boolean travado) {
+            this.liberar = new CountDownLatch(travado ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            enviados.add(builder);
+            recebeu.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completado = true;
+        }
+    }
+
+    private TaskChangedEvent evento(Long id, Long idProject) {
+        return TaskChangedEvent.criada(new TaskResponseDTO(id, "Task " + id, "Desc", Status.TODO, null, null, idProject));
+    }
+
+    // * espera o escritor do assinante entregar n eventos
+    private static void aguardar(EmitterDeTeste emitter, int n) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.enviados.size() < n && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+        assertEquals(n, emitter.enviados.size());
+    }
+
+    @AfterEach
+    void encerrar() {
+        stream.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve entregar só os eventos do projeto assinado")
+    void aoAlterar_FiltraPorProjeto() throws InterruptedException {
+        EmitterDeTeste doProjeto = new EmitterDeTeste(false);
+        EmitterDeTeste todos = new EmitterDeTeste(false);
+        stream.assinar(doProjeto, 1L);
+        stream.assinar(todos, null);
+
+        stream.aoAlterar(evento(10L, 2L));
+        stream.aoAlterar(evento(11L, 1L));
+
+        assertTrue(doProjeto.recebeu.await(5, TimeUnit.SECONDS));
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (todos.enviados.size() < 2 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, doProjeto.enviados.size());
+        assertEquals(2, todos.enviados.size());
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante lento quando a fila enche, sem afetar os demais")
+    void aoAlterar_DesconectaAssinanteLento() throws InterruptedException {
+        EmitterDeTeste lento = new EmitterDeTeste(true);
+        EmitterDeTeste rapido = new EmitterDeTeste(false);
+        stream.assinar(lento, null);
+        stream.assinar(rapido, null);
+
+        stream.aoAlterar(evento(1L, 1L));
+        // * o primeiro envio fica preso; os próximos enchem a fila de 2. O rápido esvazia a sua a cada evento,
+        // * então a fila dele nunca enche
+        assertTrue(lento.recebeu.await(5, TimeUnit.SECONDS));
+        aguardar(rapido, 1);
+        stream.aoAlterar(evento(2L, 1L));
+        aguardar(rapido, 2);
+        stream.aoAlterar(evento(3L, 1L));
+        aguardar(rapido, 3);
+        assertFalse(lento.completado);
+
+        stream.aoAlterar(evento(4L, 1L));
+        assertTrue(lento.completado);
+        lento.liberar.countDown();
+
+        aguardar(rapido, 4);
+        assertFalse(rapido.completado);
+        assertEquals(1, stream.assinantes());
+    }
+}
@@ -0,0 +1,93 @@
+package com.desafio.gerenciamento.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.model.Task;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.response.TaskSearchResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatusWriteBehind statusWriteBehind;
+
+    private TaskSearchService taskSearchService;
+
+    @BeforeEach
+    void setUp() {
+        taskSearchService = new TaskSearchService(taskRepository, statusWriteBehind, true);
+    }
+
+    private TaskResponseDTO task(Long id) {
+        return new TaskResponseDTO(id, "Task " + id, "Desc", Status.TODO, null, null, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem de relevância do índice e indicar a próxima página")
+    void buscar_OrdenaPorRelevancia() {
+        when(taskRepository.searchIds("\"relatorio\"*", 3, 0)).thenReturn(List.of(7, 3L, 9));
+        when(taskRepository.findProjectedByIds(List.of(7L, 3L))).thenReturn(List.of(task(3L), task(7L)));
+
+        TaskSearchResponseDTO resultado = taskSearchService.buscar("relatorio", 2, null);
+
+        assertEquals(List.of(7L, 3L), resultado.items().stream().map(TaskResponseDTO::getIdTask).toList());
+        assertEquals(2, resultado.nextOffset());
+        verify(statusWriteBehind).applyPending(resultado.items());
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia sem consultar as tasks")
+    void buscar_SemResultados() {
+        when(taskRepository.searchIds(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+
+        TaskSearchResponseDTO resultado = taskSearchService.buscar("nada", null, 40);
+
+        assertTrue(resultado.items().isEmpty());
+        assertNull(resultado.nextOffset());
+        assertEquals(40, resultado.offset());
+        verify(taskRepository, never()).findProjectedByIds(any());
+    }
+
+    @Test
+    @DisplayName("Deve escapar a entrada do usuário para a sintaxe do FTS5")
+    void consultaFts5_EscapaTermos() {
+        assertEquals("\"bug\" \"login\"*", TaskSearchService.consultaFts5("  bug   login "));
+        assertEquals("\"a\"\"b\" \"OR\" \"-x\"*", TaskSearchService.consultaFts5("a\"b OR -x"));
+        assertThrows(BadRequestException.class, () -> TaskSearchService.consultaFts5(" "));
+        assertThrows(BadRequestException.class, () -> taskSearchService.buscar("bug", 0, null));
+        assertThrows(BadRequestException.class, () -> taskSearchService.buscar("bug", null, -1));
+    }
+
+    @Test
+    @DisplayName("Sem FTS5 deve buscar por LIKE com offset e indicar a próxima página")
+    void buscar_SemFts5UsaLike() {
+        TaskSearchService semFts5 = new TaskSearchService(taskRepository, statusWriteBehind, false);
+        when(taskRepository.findProjected(Mockito.<Specification<Task>>any(), eq(10), eq(3)))
+                .thenReturn(List.of(task(1L), task(2L), task(3L)));
+
+        TaskSearchResponseDTO resultado = semFts5.buscar("deploy", 2, 10);
+
+        assertEquals(List.of(1L, 2L), resultado.items().stream().map(TaskResponseDTO::getIdTask).toList());
+        assertEquals(12, resultado.nextOffset());
+        verify(taskRepository, never()).searchIds(anyString(), anyInt(), anyInt());
+    }
+}
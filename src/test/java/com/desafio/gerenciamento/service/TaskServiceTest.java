@@ -1,25 +1,43 @@
 package com.desafio.gerenciamento.service;
 
+import com.desafio.gerenciamento.handler.BadRequestException;
+import com.desafio.gerenciamento.handler.PreconditionFailedException;
 import com.desafio.gerenciamento.handler.ResourceNotFoundException;
 import com.desafio.gerenciamento.handler.TaskExists;
 import com.desafio.gerenciamento.mapper.TaskMapper;
+import com.desafio.gerenciamento.model.Priority;
 import com.desafio.gerenciamento.model.Project;
 import com.desafio.gerenciamento.model.Status;
 import com.desafio.gerenciamento.model.Task;
 import com.desafio.gerenciamento.repository.ProjectRepository;
+import com.desafio.gerenciamento.repository.TaskArchiveRepository;
+import com.desafio.gerenciamento.repository.TaskDependencyRepository;
 import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.request.TaskFilter;
 import com.desafio.gerenciamento.request.TaskRequestDTO;
+import com.desafio.gerenciamento.request.TaskStatusBulkRequestDTO;
 import com.desafio.gerenciamento.request.UpdateTaskStatusDTO;
+import com.desafio.gerenciamento.response.TaskPageResponseDTO;
 import com.desafio.gerenciamento.response.TaskResponseDTO;
+import com.desafio.gerenciamento.response.TaskStatusBulkResponseDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +54,27 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ProjectCache projectCache;
+
+    @Mock
+    private TaskStatusWriteBehind statusWriteBehind;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -61,10 +100,10 @@ class TaskServiceTest {
         responseDTO.setIdTask(10L);
         responseDTO.setIdProject(1L);
 
-        when(taskRepository.findByTitle(dto.getTitle())).thenReturn(null); // Não existe
         when(taskMapper.toEntity(dto)).thenReturn(taskMapeada);
-        when(projectRepository.findById(dto.getIdProject())).thenReturn(Optional.of(projetoEncontrado));
-        when(taskRepository.save(taskMapeada)).thenReturn(taskSalva);
+        when(projectCache.existsById(dto.getIdProject())).thenReturn(true);
+        when(projectRepository.getReferenceById(dto.getIdProject())).thenReturn(projetoEncontrado);
+        when(taskRepository.saveAndFlush(taskMapeada)).thenReturn(taskSalva);
         when(taskMapper.toResponse(taskSalva)).thenReturn(responseDTO);
 
         TaskResponseDTO resultado = taskService.criarTask(dto);
@@ -73,7 +112,7 @@ class TaskServiceTest {
         assertEquals(10L, resultado.getIdTask());
         assertEquals(1L, resultado.getIdProject());
 
-        verify(taskRepository).save(taskMapeada);
+        verify(taskRepository).saveAndFlush(taskMapeada);
         assertEquals(projetoEncontrado, taskMapeada.getProject(), "A task deve ter recebido o projeto antes de salvar");
     }
 
@@ -82,70 +121,155 @@ class TaskServiceTest {
     void criarTask_ErroTaskExiste() {
         TaskRequestDTO dto = new TaskRequestDTO();
         dto.setTitle("Task Duplicada");
+        dto.setIdProject(1L);
 
-        when(taskRepository.findByTitle(dto.getTitle())).thenReturn(new Task());
+        Task taskMapeada = new Task();
 
-        assertThrows(TaskExists.class, () -> taskService.criarTask(dto));
+        when(projectCache.existsById(dto.getIdProject())).thenReturn(true);
+        when(taskMapper.toEntity(dto)).thenReturn(taskMapeada);
+        when(projectRepository.getReferenceById(dto.getIdProject())).thenReturn(new Project());
+        when(taskRepository.saveAndFlush(taskMapeada)).thenThrow(new DataIntegrityViolationException("insert",
+                new SQLException("[SQLITE_CONSTRAINT_UNIQUE] A UNIQUE constraint failed (UNIQUE constraint failed: tb_task.title)")));
 
-        verify(taskMapper, never()).toEntity(any());
-        verify(projectRepository, never()).findById(any());
-        verify(taskRepository, never()).save(any());
+        TaskExists ex = assertThrows(TaskExists.class, () -> taskService.criarTask(dto));
+        verifyNoInteractions(projectTaskCounters);
+
+        assertEquals("Essa task já existe!", ex.getMessage());
+        verify(taskRepository, never()).findByTitle(any());
+        verify(taskMapper, never()).toResponse(any());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção se o projeto informado não existir")
-    void criarTask_ErroProjetoNaoEncontrado() {
+    @DisplayName("Deve repassar violações de integridade que não são de unicidade")
+    void criarTask_ErroIntegridadeNaoUnica() {
         TaskRequestDTO dto = new TaskRequestDTO();
         dto.setTitle("Task Nova");
-        dto.setIdProject(99L);
+        dto.setIdProject(1L);
 
         Task taskMapeada = new Task();
+        DataIntegrityViolationException erro = new DataIntegrityViolationException("insert",
+                new SQLException("NOT NULL constraint failed: tb_task.title", "23502"));
 
-        when(taskRepository.findByTitle(dto.getTitle())).thenReturn(null);
+        when(projectCache.existsById(dto.getIdProject())).thenReturn(true);
         when(taskMapper.toEntity(dto)).thenReturn(taskMapeada);
-        when(projectRepository.findById(dto.getIdProject())).thenReturn(Optional.empty()); // Projeto não achado
+        when(projectRepository.getReferenceById(dto.getIdProject())).thenReturn(new Project());
+        when(taskRepository.saveAndFlush(taskMapeada)).thenThrow(erro);
+
+        assertSame(erro, assertThrows(DataIntegrityViolationException.class, () -> taskService.criarTask(dto)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção se o projeto informado não existir")
+    void criarTask_ErroProjetoNaoEncontrado() {
+        TaskRequestDTO dto = new TaskRequestDTO();
+        dto.setTitle("Task Nova");
+        dto.setIdProject(99L);
+
+        when(projectCache.existsById(dto.getIdProject())).thenReturn(false); // Projeto não achado
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> taskService.criarTask(dto));
 
         assertEquals("Projeto com ID 99 não encontrado", ex.getMessage());
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Deve listar tasks filtradas")
     void listarTasks_ComFiltro() {
-        String status = "TODO";
-        String priority = "HIGH";
-        Long idProject = 1L;
+        TaskFilter filtro = TaskFilter.of("todo", "HIGH", 1L, null);
 
-        List<Task> tasksEncontradas = List.of(new Task(), new Task());
         List<TaskResponseDTO> dtosRetornados = List.of(new TaskResponseDTO(), new TaskResponseDTO());
 
-        when(taskRepository.findByStatusOrPriorityOrIdProject(status, priority, idProject))
-                .thenReturn(tasksEncontradas);
-        when(taskMapper.toResponseList(tasksEncontradas)).thenReturn(dtosRetornados);
+        when(taskRepository.findProjected(any(Specification.class))).thenReturn(dtosRetornados);
 
-        List<TaskResponseDTO> resultado = taskService.listarTasks(status, priority, idProject);
+        List<TaskResponseDTO> resultado = taskService.listarTasks(filtro);
 
         assertNotNull(resultado);
         assertEquals(2, resultado.size());
-        verify(taskRepository).findByStatusOrPriorityOrIdProject(status, priority, idProject);
+        assertEquals(Status.TODO, filtro.status());
+        assertFalse(filtro.matchAll());
+        verify(taskRepository, never()).findAllProjected();
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores de filtro desconhecidos")
+    void listarTasks_FiltroInvalido() {
+        assertThrows(BadRequestException.class, () -> TaskFilter.of("ARCHIVED", null, null, null));
+        assertThrows(BadRequestException.class, () -> TaskFilter.of(null, null, 1L, "some"));
     }
 
     @Test
     @DisplayName("Deve listar todas as tasks")
     void listarTasks_SemFiltro() {
-        List<Task> todasTasks = List.of(new Task());
         List<TaskResponseDTO> dtos = List.of(new TaskResponseDTO());
 
-        when(taskRepository.findAll()).thenReturn(todasTasks);
-        when(taskMapper.toResponseList(todasTasks)).thenReturn(dtos);
+        when(taskRepository.findAllProjected()).thenReturn(dtos);
 
         List<TaskResponseDTO> resultado = taskService.listarTasks();
 
         assertEquals(1, resultado.size());
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    @DisplayName("Deve intercalar as tasks arquivadas por id quando pedido")
+    void listarTasks_IncluiArquivadas() {
+        when(taskRepository.findAllProjected()).thenReturn(List.of(
+                new TaskResponseDTO(2L, "B", "Desc", Status.TODO, null, null, 1L),
+                new TaskResponseDTO(5L, "E", "Desc", Status.DOING, null, null, 1L)));
+        when(taskArchiveRepository.findAllProjected()).thenReturn(List.of(
+                new TaskResponseDTO(1L, "A", "Desc", Status.DONE, null, null, 1L),
+                new TaskResponseDTO(3L, "C", "Desc", Status.DONE, null, null, 1L)));
+
+        List<TaskResponseDTO> resultado = taskService.listarTasks(true);
+
+        assertEquals(List.of(1L, 2L, 3L, 5L), resultado.stream().map(TaskResponseDTO::getIdTask).toList());
+        assertEquals(2, taskService.listarTasks().size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar no arquivo a task que não está mais em tb_task")
+    void buscarTask_Arquivada() {
+        TaskResponseDTO arquivada = new TaskResponseDTO(7L, "Antiga", "Desc", Status.DONE, null, null, 1L);
+        when(taskRepository.findProjectedById(7L)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findProjectedById(7L)).thenReturn(Optional.of(arquivada));
+
+        assertSame(arquivada, taskService.buscarTask(7L));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a página com cursor quando há mais registros")
+    void listarPagina_ComProximaPagina() {
+        TaskResponseDTO t1 = new TaskResponseDTO(1L, "Task 1", "Desc", Status.TODO, null, null, 1L);
+        TaskResponseDTO t2 = new TaskResponseDTO(2L, "Task 2", "Desc", Status.TODO, null, null, 1L);
+        TaskResponseDTO t3 = new TaskResponseDTO(3L, "Task 3", "Desc", Status.TODO, null, null, 1L);
+
+        when(taskRepository.findPageProjected(eq(0L), any(Limit.class))).thenReturn(List.of(t1, t2, t3));
+
+        TaskPageResponseDTO pagina = taskService.listarPagina(2, null);
+
+        assertEquals(List.of(t1, t2), pagina.items());
+        assertNotNull(pagina.nextCursor());
+
+        // * o cursor devolvido continua a partir do último id entregue
+        when(taskRepository.findPageProjected(eq(2L), any(Limit.class))).thenReturn(List.of(t3));
+
+        TaskPageResponseDTO ultima = taskService.listarPagina(2, pagina.nextCursor());
+
+        assertEquals(List.of(t3), ultima.items());
+        assertNull(ultima.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor ou limite inválidos")
+    void listarPagina_ParametrosInvalidos() {
+        assertThrows(BadRequestException.class, () -> taskService.listarPagina(10, "nao-e-um-cursor"));
+        assertThrows(BadRequestException.class, () -> taskService.listarPagina(0, null));
+        assertThrows(BadRequestException.class, () -> taskService.listarPagina(10_000, null));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -156,9 +280,13 @@ class TaskServiceTest {
         UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
         dto.setStatus(Status.DONE);
 
+        Project projeto = new Project();
+        projeto.setId(1L);
+
         Task taskExistente = new Task();
         taskExistente.setId(id);
         taskExistente.setStatus(Status.TODO);
+        taskExistente.setProject(projeto);
 
         Task taskAtualizada = new Task();
         taskAtualizada.setId(id);
@@ -168,14 +296,43 @@ class TaskServiceTest {
         responseDTO.setStatus(Status.DONE);
 
         when(taskRepository.findById(id)).thenReturn(Optional.of(taskExistente));
-        when(taskRepository.save(taskExistente)).thenReturn(taskAtualizada);
+        when(taskRepository.saveAndFlush(taskExistente)).thenReturn(taskAtualizada);
         when(taskMapper.toResponse(taskAtualizada)).thenReturn(responseDTO);
 
         TaskResponseDTO resultado = taskService.atualizarStatus(id, dto);
 
         assertEquals(Status.DONE, resultado.getStatus());
-        verify(taskRepository).save(taskExistente);
+        verify(taskRepository).saveAndFlush(taskExistente);
         assertEquals(Status.DONE, taskExistente.getStatus());
+        verify(projectTaskCounters).statusAlterado(1L, Status.TODO, Status.DONE);
+        verify(tableVersions).alterada(TableVersions.Tabela.TASKS);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusAlterado(responseDTO, Status.TODO));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a atualização quando o If-Match não corresponde à versão atual")
+    void atualizarStatus_IfMatchDesatualizado() {
+        Long id = 1L;
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.DONE);
+
+        // * versão nula na entidade nova; o ETag enviado é de outra versão
+        when(taskRepository.findById(id)).thenReturn(Optional.of(new Task()));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.atualizarStatus(id, dto, "\"task-1-3\""));
+        verify(taskRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(tableVersions);
+    }
+
+    @Test
+    @DisplayName("Deve montar o ETag da task com a versão e o status ainda na fila")
+    void etagTask_IncluiStatusPendente() {
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+        when(statusWriteBehind.pending(1L)).thenReturn(null, Status.DONE);
+
+        assertEquals("\"task-1-4\"", taskService.etagTask(1L));
+        assertEquals("\"task-1-4-DONE\"", taskService.etagTask(1L));
     }
 
     @Test
@@ -189,18 +346,110 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Deve enfileirar o status no modo write-behind sem gravar a entidade")
+    void agendarStatus_Enfileira() {
+        Long id = 1L;
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.DONE);
+        TaskResponseDTO atual = new TaskResponseDTO(id, "Task", "Desc", Status.TODO, null, null, 1L);
+
+        when(taskRepository.findProjectedById(id)).thenReturn(Optional.of(atual));
+        when(statusWriteBehind.trocar(eq(id), eq(Status.DONE), eq(Status.TODO), anyLong(), any()))
+                .thenReturn(Optional.of(Status.TODO));
+
+        TaskResponseDTO resultado = taskService.agendarStatus(id, dto);
+
+        assertEquals(Status.DONE, resultado.getStatus());
+        verify(taskRepository, never()).save(any());
+        verify(projectTaskCounters).statusAlterado(1L, Status.TODO, Status.DONE);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusAlterado(resultado, Status.TODO));
+    }
+
+    @Test
+    @DisplayName("Deve ler a task de novo quando um lote é gravado no meio, contando a partir do status da fila")
+    void agendarStatus_ReleAposLote() {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.DONE);
+        when(taskRepository.findProjectedById(1L)).thenReturn(Optional.of(
+                new TaskResponseDTO(1L, "Task", "Desc", Status.TODO, null, null, 1L)));
+        when(statusWriteBehind.lotesGravados()).thenReturn(3L, 4L);
+        when(statusWriteBehind.trocar(eq(1L), eq(Status.DONE), eq(Status.TODO), eq(3L), any()))
+                .thenReturn(Optional.empty());
+        // * outra requisição deixou DOING na fila
+        when(statusWriteBehind.trocar(eq(1L), eq(Status.DONE), eq(Status.TODO), eq(4L), any()))
+                .thenReturn(Optional.of(Status.DOING));
+
+        taskService.agendarStatus(1L, dto);
+
+        verify(taskRepository, times(2)).findProjectedById(1L);
+        verify(projectTaskCounters).statusAlterado(1L, Status.DOING, Status.DONE);
+        verify(tableVersions, times(1)).alterada(TableVersions.Tabela.TASKS);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao enfileirar status de task inexistente")
+    void agendarStatus_NaoEncontrado() {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.DONE);
+        when(taskRepository.findProjectedById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.agendarStatus(99L, dto));
+        verify(statusWriteBehind, never()).trocar(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve enfileirar status de task arquivada: o flush só grava em tb_task")
+    void agendarStatus_Arquivada() {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.TODO);
+        when(taskRepository.findProjectedById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.agendarStatus(5L, dto, "\"task-5-2\""));
+        verifyNoInteractions(taskArchiveRepository);
+        verify(statusWriteBehind, never()).trocar(any(), any(), any(), anyLong(), any());
+        verifyNoInteractions(projectTaskCounters, tableVersions, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 412 o If-Match que não corresponde à versão em tb_task")
+    void agendarStatus_IfMatchDiferente() {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(Status.DONE);
+        when(taskRepository.findProjectedById(1L)).thenReturn(Optional.of(
+                new TaskResponseDTO(1L, "Task", "Desc", Status.TODO, null, null, 1L)));
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        // * a conferência roda dentro da troca, com o status que estiver na fila
+        when(statusWriteBehind.trocar(eq(1L), eq(Status.DONE), eq(Status.TODO), anyLong(), any()))
+                .thenAnswer(invocacao -> {
+                    invocacao.<Consumer<Status>>getArgument(4).accept(null);
+                    return Optional.of(Status.TODO);
+                });
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.agendarStatus(1L, dto, "\"task-1-2\""));
+        verifyNoInteractions(projectTaskCounters, tableVersions, eventPublisher);
+    }
+
     @Test
     @DisplayName("Deve deletar task com sucesso")
     void deletarTask_Sucesso() {
         Long id = 1L;
-        Task task = new Task();
-        task.setId(id);
+        Project projeto = new Project();
+        projeto.setId(1L);
+        Task task = new Task(id, "Task", "Desc", Status.TODO, Priority.HIGH, null, projeto);
 
         when(taskRepository.findById(id)).thenReturn(Optional.of(task));
+        when(statusWriteBehind.discard(id)).thenReturn(Status.DOING);
 
         taskService.deletarTask(id);
 
-        verify(taskRepository, times(1)).delete(task);
+        InOrder ordem = inOrder(taskDependencyRepository, taskRepository);
+        ordem.verify(taskDependencyRepository).deleteByTaskIds(List.of(id));
+        ordem.verify(taskRepository, times(1)).delete(task);
+        // * o status ainda na fila é o que estava contado
+        verify(projectTaskCounters).taskRemovida(1L, Status.DOING, Priority.HIGH);
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent e) ->
+                e.tipo() == TaskChangedEvent.Tipo.DELETED && e.task().getStatus() == Status.DOING));
     }
 
     @Test
@@ -210,6 +459,73 @@ class TaskServiceTest {
         when(taskRepository.findById(id)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.deletarTask(id));
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o status em massa com um único UPDATE e notificar cada task")
+    void atualizarStatusEmMassa_Sucesso() {
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO();
+        dto.setStatus(Status.DONE);
+        dto.setIdProject(1L);
+
+        List<TaskResponseDTO> afetadas = List.of(
+                new TaskResponseDTO(10L, "A", null, Status.TODO, Priority.LOW, null, 1L),
+                new TaskResponseDTO(11L, "B", null, Status.TODO, Priority.HIGH, null, 1L),
+                new TaskResponseDTO(12L, "C", null, Status.DOING, Priority.LOW, null, 1L));
+        when(taskRepository.findProjected(any(Specification.class), eq(TaskService.LIMITE_EM_MASSA + 1)))
+                .thenReturn(afetadas);
+        when(taskRepository.updateStatusIfChanged(List.of(10L, 11L, 12L), Status.DONE)).thenReturn(3);
+
+        TaskStatusBulkResponseDTO resultado = taskService.atualizarStatusEmMassa(dto);
+
+        assertEquals(3, resultado.updated());
+        assertEquals(Map.of(Status.TODO, 2, Status.DOING, 1), resultado.byPreviousStatus());
+        verify(statusWriteBehind).gravarNaTransacao();
+        verify(taskRepository, times(1)).updateStatusIfChanged(anyCollection(), eq(Status.DONE));
+        verify(projectTaskCounters, times(2)).statusAlterado(1L, Status.TODO, Status.DONE);
+        verify(projectTaskCounters).statusAlterado(1L, Status.DOING, Status.DONE);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+        verify(tableVersions).alterada(TableVersions.Tabela.TASKS);
+    }
+
+    @Test
+    @DisplayName("Não deve executar UPDATE quando nenhuma task muda de status")
+    void atualizarStatusEmMassa_NadaAfetado() {
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO();
+        dto.setStatus(Status.DONE);
+        dto.setIds(List.of(10L));
+        when(taskRepository.findProjected(any(Specification.class), anyInt())).thenReturn(List.of());
+
+        TaskStatusBulkResponseDTO resultado = taskService.atualizarStatusEmMassa(dto);
+
+        assertEquals(0, resultado.updated());
+        verify(taskRepository, never()).updateStatusIfChanged(anyCollection(), any());
+        verifyNoInteractions(tableVersions, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a troca em massa sem ids nem filtros")
+    void atualizarStatusEmMassa_SemSelecao() {
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO();
+        dto.setStatus(Status.DONE);
+
+        assertThrows(BadRequestException.class, () -> taskService.atualizarStatusEmMassa(dto));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a troca em massa quando a seleção passa do limite")
+    void atualizarStatusEmMassa_SelecaoGrandeDemais() {
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO();
+        dto.setStatus(Status.DONE);
+        dto.setCurrentStatus(Status.TODO);
+        List<TaskResponseDTO> muitas = LongStream.rangeClosed(1, TaskService.LIMITE_EM_MASSA + 1)
+                .mapToObj(id -> new TaskResponseDTO(id, "T" + id, null, Status.TODO, Priority.LOW, null, 1L))
+                .toList();
+        when(taskRepository.findProjected(any(Specification.class), anyInt())).thenReturn(muitas);
+
+        assertThrows(BadRequestException.class, () -> taskService.atualizarStatusEmMassa(dto));
+        verify(taskRepository, never()).updateStatusIfChanged(anyCollection(), any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,189 @@
+package com.desafio.gerenciamento.service;
+
+import com.desafio.gerenciamento.model.Status;
+import com.desafio.gerenciamento.repository.TaskRepository;
+import com.desafio.gerenciamento.response.TaskResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatusWriteBehindTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskStatusWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        // * sem iniciar o agendamento: o flush é chamado direto pelos testes
+        writeBehind = new TaskStatusWriteBehind(taskRepository, transactionManager, true, Duration.ofSeconds(1), 100);
+    }
+
+    @Test
+    @DisplayName("A última escrita por task vence e o lote agrupa por status")
+    void flush_AgrupaPorStatus() {
+        writeBehind.enqueue(1L, Status.DOING);
+        writeBehind.enqueue(1L, Status.DONE);
+        writeBehind.enqueue(2L, Status.DONE);
+        writeBehind.enqueue(3L, Status.TODO);
+
+        writeBehind.flush();
+
+        verify(taskRepository).updateStatus(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2),
+                eq(Status.DONE));
+        verify(taskRepository).updateStatus(List.of(3L), Status.TODO);
+        verify(taskRepository, never()).updateStatus(any(), eq(Status.DOING));
+        assertEquals(0, writeBehind.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Leituras enxergam o status pendente e a fila sobrevive a falhas de gravação")
+    void applyPending_EFalhaNoFlush() {
+        writeBehind.enqueue(1L, Status.DONE);
+        TaskResponseDTO dto = new TaskResponseDTO(1L, "Task", "Desc", Status.TODO, null, null, 1L);
+
+        writeBehind.applyPending(List.of(dto));
+        assertEquals(Status.DONE, dto.getStatus());
+
+        when(taskRepository.updateStatus(any(), any())).thenThrow(new IllegalStateException("banco indisponível"));
+        writeBehind.flush();
+
+        assertEquals(1, writeBehind.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Task removida não deve ser gravada")
+    void discard_RemoveDaFila() {
+        writeBehind.enqueue(1L, Status.DONE);
+        writeBehind.discard(1L);
+
+        writeBehind.flush();
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Trocas seguidas da mesma task partem do status deixado pela anterior, não do lido no banco")
+    void trocar_ParteDaFila() {
+        long lote = writeBehind.lotesGravados();
+
+        assertEquals(Status.TODO, writeBehind.trocar(1L, Status.DOING, Status.TODO, lote, pendente -> { }).get());
+        assertEquals(Status.DOING, writeBehind.trocar(1L, Status.DONE, Status.TODO, lote, pendente -> { }).get());
+        assertEquals(Status.DONE, writeBehind.pending(1L));
+    }
+
+    @Test
+    @DisplayName("A conferência vê o status da fila e, ao recusar, não enfileira nada")
+    void trocar_ConferenciaRecusa() {
+        writeBehind.enqueue(1L, Status.DOING);
+        long lote = writeBehind.lotesGravados();
+
+        assertThrows(IllegalStateException.class, () -> writeBehind.trocar(1L, Status.DONE, Status.TODO, lote,
+                pendente -> {
+                    assertEquals(Status.DOING, pendente);
+                    throw new IllegalStateException("ETag diferente");
+                }));
+        assertEquals(Status.DOING, writeBehind.pending(1L));
+    }
+
+    @Test
+    @DisplayName("Depois de um lote gravado o status lido antes não vale: a troca pede nova leitura")
+    void trocar_LoteGravadoNoMeio() {
+        writeBehind.enqueue(1L, Status.DOING);
+        long lote = writeBehind.lotesGravados();
+
+        writeBehind.flush();
+
+        assertTrue(writeBehind.trocar(1L, Status.DONE, Status.TODO, lote, pendente -> { }).isEmpty());
+        assertNull(writeBehind.pending(1L));
+        assertEquals(Status.DOING,
+                writeBehind.trocar(1L, Status.DONE, Status.DOING, writeBehind.lotesGravados(), pendente -> { }).get());
+    }
+
+    @Test
+    @DisplayName("Escrita em massa grava a fila na própria transação e segura o escritor até o commit")
+    void gravarNaTransacao_Commit() throws Exception {
+        writeBehind.enqueue(1L, Status.DONE);
+        long lote = writeBehind.lotesGravados();
+        ExecutorService outra = Executors.newSingleThreadExecutor();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writeBehind.gravarNaTransacao();
+            verify(taskRepository).updateStatus(List.of(1L), Status.DONE);
+            assertEquals(Status.DONE, writeBehind.pending(1L));
+
+            Future<?> flush = outra.submit(writeBehind::flush);
+            assertThrows(TimeoutException.class, () -> flush.get(200, TimeUnit.MILLISECONDS));
+
+            concluir(TransactionSynchronization.STATUS_COMMITTED);
+            flush.get(1, TimeUnit.SECONDS);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            outra.shutdownNow();
+        }
+
+        verify(taskRepository, times(1)).updateStatus(any(), any());
+        assertEquals(0, writeBehind.pendingCount());
+        assertEquals(lote + 1, writeBehind.lotesGravados());
+    }
+
+    @Test
+    @DisplayName("Escrita em massa desfeita deixa a fila como estava")
+    void gravarNaTransacao_Rollback() {
+        writeBehind.enqueue(1L, Status.DONE);
+        long lote = writeBehind.lotesGravados();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writeBehind.gravarNaTransacao();
+            concluir(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Status.DONE, writeBehind.pending(1L));
+        assertEquals(lote, writeBehind.lotesGravados());
+        assertEquals(Status.DONE, writeBehind.trocar(1L, Status.TODO, Status.TODO, lote, pendente -> { }).get());
+    }
+
+    private static void concluir(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sincronizacao -> sincronizacao
+                .afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("Cada tenant enxerga e grava só a própria fila")
+    void tenants_FilasSeparadas() {
+        TenantContext.executar("acme", () -> writeBehind.enqueue(1L, Status.DONE));
+
+        assertNull(writeBehind.pending(1L));
+        assertNull(writeBehind.discard(1L));
+        assertEquals(Status.DONE, TenantContext.executar("acme", () -> writeBehind.pending(1L)));
+
+        writeBehind.flush();
+
+        verify(taskRepository).updateStatus(List.of(1L), Status.DONE);
+        assertEquals(0, writeBehind.pendingCount());
+    }
+}